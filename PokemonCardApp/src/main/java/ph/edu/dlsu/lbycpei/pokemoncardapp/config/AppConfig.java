@@ -7,6 +7,19 @@ public final class AppConfig {
     public static final String IMAGE_EXT = ".gif";
     public static final String LOGO_PATH = "/images/pokemon-logo.gif";
     public static final String POKEBALL_PATH ="/images/pokeball.png";
+    // System property naming an external catalog file, e.g. -Dpokemon.catalog=/data/cards.csv
+    public static final String CATALOG_FILE_PROPERTY = "pokemon.catalog";
+    // Binary snapshots of parsed catalogs, reused on the next launch
+    public static final String SNAPSHOT_DIR = System.getProperty("user.home") + "/.pokemoncardapp/snapshots";
+    // Logs of removals and inserts, replayed at startup so they survive restarts
+    public static final String MUTATION_LOG_DIR = System.getProperty("user.home") + "/.pokemoncardapp/logs";
+    // System property choosing how catalog rows with the same name are resolved, e.g. -Dpokemon.duplicates=merge
+    public static final String DUPLICATE_POLICY_PROPERTY = "pokemon.duplicates";
+    // System properties sizing the decoded card image cache, e.g. -Dpokemon.imageCacheMb=16 -Dpokemon.imageCacheSoft=true
+    public static final String IMAGE_CACHE_MB_PROPERTY = "pokemon.imageCacheMb";
+    public static final String IMAGE_CACHE_SOFT_PROPERTY = "pokemon.imageCacheSoft";
+    // The bundled sprites decode to about 440 MB with every frame, so the default holds them all
+    public static final int DEFAULT_IMAGE_CACHE_MB = 512;
     // Private constructor to prevent instantiation
     private AppConfig() {
         // Not meant to be instantiated
@@ -5,22 +5,92 @@ import javafx.animation.Timeline;
 import javafx.scene.layout.BorderPane;
 import javafx.util.Duration;
 import javafx.application.Platform;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.config.AppConfig;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CatalogSnapshot;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonModel;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.utils.CatalogFileWatcher;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.view.AppView;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class PokemonController {
+    private static final int MAX_SUGGESTIONS = 8;
+    private static final int MAX_SIMILAR = 6;
+
     private final PokemonModel model;
     private final AppView view;
     private Timeline slideshow;
+    private CatalogFileWatcher catalogWatcher;
+    private final ExecutorService suggestionExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "search-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService similarExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "similar-cards");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingSuggestions;
+    private int similarRequest = 0; // Only the latest Find Similar click is shown
+    private boolean fillingSearchField; // True while the app, not the user, sets the search text
     private int currentSlideIndex = 0;
 
     public PokemonController() {
-        this.model = new PokemonModel();
+        String catalogPath = System.getProperty(AppConfig.CATALOG_FILE_PROPERTY);
+        this.model = catalogPath != null ? new PokemonModel(new File(catalogPath)) : new PokemonModel();
+        List<Pokemon> fileRows = model.getSnapshot().asList(); // The file as loaded, before the log's changes
+        openMutationLog(catalogPath != null ? new File(catalogPath) : null);
         this.view = new AppView();
         setupEventHandlers();
+        if (catalogPath != null) {
+            watchCatalog(new File(catalogPath), fileRows);
+        }
+        similarExecutor.submit(model::prepareSimilarityIndex); // Ready before the first click
+    }
+
+    // Removals from earlier sessions are replayed from the catalog's mutation log
+    private void openMutationLog(File catalogFile) {
+        try {
+            model.openMutationLog(PokemonModel.mutationLogPath(catalogFile));
+        } catch (IOException e) {
+            System.err.println("Could not open mutation log: " + e.getMessage());
+        }
+    }
+
+    // Picks up edits to an external catalog without a restart. The file is re-parsed,
+    // diffed against its previous version and applied on the watcher thread; only the
+    // card on screen is refreshed on the FX thread.
+    private void watchCatalog(File catalogFile, List<Pokemon> fileRows) {
+        try {
+            catalogWatcher = new CatalogFileWatcher(catalogFile, fileRows, model.getDuplicatePolicy(), delta -> {
+                model.applyDelta(delta);
+                Platform.runLater(this::refreshDisplayedCard);
+            });
+            catalogWatcher.start();
+        } catch (IOException e) {
+            System.err.println("Could not watch catalog file: " + e.getMessage());
+        }
+    }
+
+    // Shows the reloaded version of the card on screen, if the reload changed it
+    private void refreshDisplayedCard() {
+        Pokemon shown = view.getDisplayedPokemon();
+        if (shown == null) {
+            return;
+        }
+        Pokemon current = model.searchPokemon(shown.getName());
+        if (current == null) {
+            view.showMessage("Pokemon '" + shown.getName() + "' was removed from the catalog file.");
+        } else if (current != shown) {
+            view.displayPokemonCard(current);
+        }
     }
 
     private void setupEventHandlers() {
@@ -29,10 +99,65 @@ public class PokemonController {
         view.getSearchBtn().setOnAction(e -> handleSearch());
         view.getRemoveBtn().setOnAction(e -> handleRemove());
         view.getQuitBtn().setOnAction(e -> handleQuit());
+        view.setOnFindSimilar(this::handleFindSimilar);
 
         // Enter key support for text fields
         view.getSearchField().setOnAction(e -> handleSearch());
         view.getRemoveField().setOnAction(e -> handleRemove());
+
+        // Suggestions while typing
+        view.getSearchField().textProperty().addListener((obs, oldText, newText) -> handleSearchTyping(newText));
+    }
+
+    // Suggestions are computed on a background thread so typing never waits on the index.
+    // Only the latest keystroke matters: older lookups are cancelled or their results dropped.
+    private void handleSearchTyping(String text) {
+        if (pendingSuggestions != null) {
+            pendingSuggestions.cancel(false);
+        }
+        if (fillingSearchField) {
+            return;
+        }
+        String query = text.trim();
+        if (query.isEmpty()) {
+            view.hideSearchSuggestions();
+            return;
+        }
+        pendingSuggestions = suggestionExecutor.submit(() -> {
+            List<String> names = model.suggestNames(query, MAX_SUGGESTIONS);
+            Platform.runLater(() -> {
+                if (query.equals(view.getSearchField().getText().trim())) {
+                    view.showSearchSuggestions(names, this::handleSuggestionPicked);
+                }
+            });
+        });
+    }
+
+    private void handleSuggestionPicked(String name) {
+        fillingSearchField = true; // Otherwise the new text opens the suggestions again
+        try {
+            view.getSearchField().setText(name);
+        } finally {
+            fillingSearchField = false;
+        }
+        handleSearch();
+    }
+
+    private void handleFindSimilar(Pokemon pokemon) {
+        if (slideshow != null && slideshow.getStatus() == Timeline.Status.RUNNING) {
+            slideshow.stop(); // Otherwise the next slide replaces the list
+            view.getSlideshowBtn().setText("Start Slideshow");
+        }
+        // The index is rebuilt after every catalog change, which takes a while on a large catalog
+        int request = ++similarRequest;
+        similarExecutor.submit(() -> {
+            List<Pokemon> similar = model.findSimilar(pokemon, MAX_SIMILAR);
+            Platform.runLater(() -> {
+                if (request == similarRequest) {
+                    view.showSimilarCards(pokemon, similar, view::displayPokemonCard);
+                }
+            });
+        });
     }
 
     private void handleViewRandom() {
@@ -47,7 +172,7 @@ public class PokemonController {
     }
 
     private void handleSlideshow() {
-        List<Pokemon> allPokemon = model.getAllPokemon();
+        CatalogSnapshot allPokemon = model.getSnapshot();
         if (allPokemon.isEmpty()) {
             view.showMessage("No Pokemon available for slideshow.");
             return;
@@ -78,11 +203,12 @@ public class PokemonController {
         slideshow.play();
 
         // Show first Pokemon immediately
-        view.displayPokemonCard(allPokemon.getFirst());
+        view.displayPokemonCard(allPokemon.get(0));
         currentSlideIndex = 1;
     }
 
     private void handleSearch() {
+        view.hideSearchSuggestions();
         String searchName = view.getSearchField().getText().trim();
         if (searchName.isEmpty()) {
             view.showMessage("Please enter a Pokemon name to search.");
@@ -119,6 +245,12 @@ public class PokemonController {
         if (slideshow != null) {
             slideshow.stop();
         }
+        if (catalogWatcher != null) {
+            catalogWatcher.close();
+        }
+        suggestionExecutor.shutdownNow();
+        similarExecutor.shutdownNow();
+        model.closeMutationLog();
         Platform.exit();
     }
 
@@ -0,0 +1,128 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * BattleEngine - Scores matchups between cards
+ *
+ * A card's strength against an opponent is attack x defense x stamina, times the
+ * effectiveness of the better of its types against the opponent's types (see
+ * TypeChart). Matchups follow the Bradley-Terry model: with strengths a and b the
+ * first card wins with probability a / (a + b), computed as a logistic of the log
+ * strength difference so that zero stats and immunities stay well defined.
+ *
+ * The bulk mode fills the whole N x N matrix. Log power is computed once per card
+ * and the type term once per pair of distinct type combinations, so each cell is a
+ * subtraction, a table lookup and an exp. Since p(j beats i) = 1 - p(i beats j), only
+ * tiles on or above the diagonal are computed; each tile also fills its mirror tile,
+ * and tiles are small enough that those transposed writes stay in cache. Tiles run
+ * in parallel on the fork-join pool.
+ */
+public final class BattleEngine {
+
+    private static final int TILE = 256; // Rows and columns per tile
+
+    private BattleEngine() {
+    }
+
+    /**
+     * @return Damage multiplier of the attacker's better type against the defender's types
+     */
+    public static double effectiveness(Pokemon attacker, Pokemon defender) {
+        double multiplier = TypeChart.against(attacker.getPrimaryType(), defender);
+        if (attacker.hasSecondaryType()) {
+            multiplier = Math.max(multiplier, TypeChart.against(attacker.getSecondaryType(), defender));
+        }
+        return multiplier;
+    }
+
+    /**
+     * @return Probability that the first card beats the second, 0.5 for an even matchup
+     */
+    public static double winProbability(Pokemon a, Pokemon b) {
+        double typeEdge = Math.log(effectiveness(a, b)) - Math.log(effectiveness(b, a));
+        return probability(logPower(a) - logPower(b) + typeEdge);
+    }
+
+    /**
+     * Win probabilities of every card against every other card
+     * @param cards Cards in matrix order
+     * @return The matrix; it holds N x N floats, e.g. 1.6 GB for 20,000 cards
+     */
+    public static BattleMatrix winMatrix(List<Pokemon> cards) {
+        int size = cards.size();
+        double[] logPowers = new double[size];
+        int[] combos = new int[size];
+        Map<Integer, Integer> comboCodes = new HashMap<>();
+        List<Pokemon> representatives = new ArrayList<>(); // One card per distinct type combination
+        for (int i = 0; i < size; i++) {
+            Pokemon pokemon = cards.get(i);
+            logPowers[i] = logPower(pokemon);
+            int key = pokemon.getPrimaryType().ordinal() * 64
+                    + (pokemon.hasSecondaryType() ? pokemon.getSecondaryType().ordinal() + 1 : 0);
+            combos[i] = comboCodes.computeIfAbsent(key, k -> {
+                representatives.add(pokemon);
+                return representatives.size() - 1;
+            });
+        }
+
+        // typeEdges[x * combos + y]: log effectiveness of x against y minus that of y against x
+        int comboCount = representatives.size();
+        double[] typeEdges = new double[comboCount * comboCount];
+        for (int x = 0; x < comboCount; x++) {
+            for (int y = 0; y < comboCount; y++) {
+                typeEdges[x * comboCount + y] = Math.log(effectiveness(representatives.get(x), representatives.get(y)))
+                        - Math.log(effectiveness(representatives.get(y), representatives.get(x)));
+            }
+        }
+
+        float[][] rows = new float[size][size];
+        int tiles = (size + TILE - 1) / TILE;
+        int[] tileRows = new int[tiles * (tiles + 1) / 2];
+        int[] tileColumns = new int[tileRows.length];
+        for (int r = 0, t = 0; r < tiles; r++) {
+            for (int c = r; c < tiles; c++, t++) {
+                tileRows[t] = r;
+                tileColumns[t] = c;
+            }
+        }
+        IntStream.range(0, tileRows.length).parallel().forEach(t -> fillTile(rows, logPowers, combos,
+                typeEdges, comboCount, tileRows[t] * TILE, tileColumns[t] * TILE));
+        return new BattleMatrix(List.copyOf(cards), rows);
+    }
+
+    // Fills the tile at (rowStart, columnStart) and its mirror below the diagonal
+    private static void fillTile(float[][] rows, double[] logPowers, int[] combos, double[] typeEdges,
+                                 int comboCount, int rowStart, int columnStart) {
+        int rowEnd = Math.min(rowStart + TILE, rows.length);
+        int columnEnd = Math.min(columnStart + TILE, rows.length);
+        for (int i = rowStart; i < rowEnd; i++) {
+            float[] row = rows[i];
+            double logPower = logPowers[i];
+            int edgeRow = combos[i] * comboCount;
+            int from = rowStart == columnStart ? i + 1 : columnStart; // Diagonal tiles: upper half only
+            if (rowStart == columnStart) {
+                row[i] = 0.5f;
+            }
+            for (int j = from; j < columnEnd; j++) {
+                float p = (float) probability(logPower - logPowers[j] + typeEdges[edgeRow + combos[j]]);
+                row[j] = p;
+                rows[j][i] = 1 - p;
+            }
+        }
+    }
+
+    // Attack x defense x stamina, in logs; -Infinity when a stat is zero
+    private static double logPower(Pokemon pokemon) {
+        return Math.log(pokemon.getAttack() * pokemon.getDefense() * pokemon.getStamina());
+    }
+
+    // Logistic of a log strength difference; NaN means both sides are zero or both infinite
+    private static double probability(double logRatio) {
+        return Double.isNaN(logRatio) ? 0.5 : 1 / (1 + Math.exp(-logRatio));
+    }
+}
@@ -0,0 +1,48 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * BattleMatrix - Win probabilities of every card against every other card
+ * Cell (i, j) is the probability that card i beats card j; (j, i) is its
+ * complement and the diagonal is 0.5. Built by BattleEngine.winMatrix.
+ */
+public final class BattleMatrix {
+
+    private final List<Pokemon> cards;
+    private final float[][] rows;
+
+    BattleMatrix(List<Pokemon> cards, float[][] rows) {
+        this.cards = cards;
+        this.rows = rows;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public List<Pokemon> getCards() {
+        return cards;
+    }
+
+    /**
+     * @return Probability that card i beats card j
+     */
+    public float get(int i, int j) {
+        return rows[i][j];
+    }
+
+    /**
+     * @return Expected number of wins of each card in a round robin against every other card
+     */
+    public double[] getExpectedWins() {
+        return IntStream.range(0, rows.length).parallel().mapToDouble(i -> {
+            double wins = -0.5; // Leave out the card's own diagonal cell
+            for (float p : rows[i]) {
+                wins += p;
+            }
+            return wins;
+        }).toArray();
+    }
+}
@@ -0,0 +1,40 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BulkResult - Summary of a batch of catalog changes
+ * Counts are in cards: removing a name that two cards share counts two.
+ */
+public final class BulkResult {
+
+    static final BulkResult NONE = new BulkResult(0, 0, 0, List.of());
+
+    private final int inserted;
+    private final int updated;
+    private final int removed;
+    private final List<String> notFound;
+
+    BulkResult(int inserted, int updated, int removed, List<String> notFound) {
+        this.inserted = inserted;
+        this.updated = updated;
+        this.removed = removed;
+        this.notFound = Collections.unmodifiableList(notFound);
+    }
+
+    public int getInserted() { return inserted; }
+    public int getUpdated() { return updated; }
+    public int getRemoved() { return removed; }
+
+    /**
+     * @return Names given for removal or update that matched no card
+     */
+    public List<String> getNotFound() { return notFound; }
+
+    @Override
+    public String toString() {
+        return String.format("+%d inserted, ~%d updated, -%d removed, %d not found",
+                inserted, updated, removed, notFound.size());
+    }
+}
@@ -0,0 +1,36 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * CSVParseException - Thrown when a catalog row cannot be turned into a Pokemon
+ * Carries the 1-based line and column where parsing stopped
+ */
+public class CSVParseException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String reason;
+    private final int lineNumber;
+    private final int column;
+
+    public CSVParseException(String message, int lineNumber, int column) {
+        super((lineNumber > 0 ? "Line " + lineNumber + ", column " : "Column ") + column + ": " + message);
+        this.reason = message;
+        this.lineNumber = lineNumber;
+        this.column = column;
+    }
+
+    /**
+     * @return The problem description without the line/column prefix
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,188 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * CardSampler - Weighted random draws from a catalog snapshot
+ *
+ * Uses Vose's alias method: building the tables is O(n), after which every draw
+ * is one uniform index plus one coin flip, O(1) regardless of the weights.
+ * Draws use ThreadLocalRandom, so any number of threads can share a sampler
+ * without contending on a generator.
+ *
+ * Also hands out shuffle cursors, which visit every card of a snapshot once in
+ * random order.
+ */
+public final class CardSampler {
+
+    private final CatalogSnapshot snapshot;
+    private final double[] probability;
+    private final int[] alias;
+
+    private CardSampler(CatalogSnapshot snapshot, double[] probability, int[] alias) {
+        this.snapshot = snapshot;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Build a sampler where each card is drawn with probability proportional to its weight
+     * @param snapshot Cards to draw from
+     * @param weight Weight of a card; must be finite and not negative
+     * @return The sampler. If every weight is 0, cards are drawn uniformly.
+     * @throws IllegalArgumentException if a weight is negative or not finite
+     */
+    public static CardSampler weighted(CatalogSnapshot snapshot, ToDoubleFunction<? super Pokemon> weight) {
+        int n = snapshot.size();
+        double[] weights = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            double w = weight.applyAsDouble(snapshot.get(i));
+            if (!(w >= 0) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("Invalid weight " + w + " for " + snapshot.get(i).getName());
+            }
+            weights[i] = w;
+            total += w;
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        if (total == 0) {
+            Arrays.fill(probability, 1.0);
+            return new CardSampler(snapshot, probability, alias);
+        }
+
+        // Scale so the average weight is 1, then pair each light entry with a heavy one
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = weights[i] * n / total;
+            if (weights[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int light = small[--smallCount];
+            int heavy = large[--largeCount];
+            probability[light] = weights[light];
+            alias[light] = heavy;
+            weights[heavy] = (weights[heavy] + weights[light]) - 1.0;
+            if (weights[heavy] < 1.0) {
+                small[smallCount++] = heavy;
+            } else {
+                large[largeCount++] = heavy;
+            }
+        }
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+        return new CardSampler(snapshot, probability, alias);
+    }
+
+    /**
+     * Sampler weighted by power level, so stronger cards come up more often.
+     * Cards with a negative, NaN or infinite power level are never drawn.
+     */
+    public static CardSampler byPowerLevel(CatalogSnapshot snapshot) {
+        return weighted(snapshot, pokemon -> {
+            double power = pokemon.calculatePowerLevel();
+            return Double.isFinite(power) ? Math.max(0, power) : 0; // Math.max passes NaN through
+        });
+    }
+
+    /**
+     * @return A random card, or null if the snapshot is empty
+     */
+    public Pokemon draw() {
+        int n = probability.length;
+        if (n == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(n);
+        return snapshot.get(random.nextDouble() < probability[column] ? column : alias[column]);
+    }
+
+    /**
+     * Draw with repetition, e.g. the cards of a booster pack
+     * @param count Number of cards
+     * @return count cards, or an empty list if the snapshot is empty
+     */
+    public List<Pokemon> draw(int count) {
+        if (probability.length == 0) {
+            return List.of();
+        }
+        List<Pokemon> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(draw());
+        }
+        return cards;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Visit every card of a snapshot once, in random order
+     * @param snapshot Cards to shuffle
+     * @return A new cursor
+     */
+    public static ShuffleCursor shuffle(CatalogSnapshot snapshot) {
+        return new ShuffleCursor(snapshot);
+    }
+
+    /**
+     * Draws without repetition. Each next() does one step of a Fisher-Yates shuffle
+     * over the card positions, so a cursor costs O(1) per card and nothing up front
+     * beyond the position array. A cursor is meant for one thread.
+     */
+    public static final class ShuffleCursor implements Iterator<Pokemon> {
+        private final CatalogSnapshot snapshot;
+        private final int[] order;
+        private int next = 0;
+
+        private ShuffleCursor(CatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.order = new int[snapshot.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < order.length;
+        }
+
+        @Override
+        public Pokemon next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Every card has been drawn");
+            }
+            int pick = next + ThreadLocalRandom.current().nextInt(order.length - next);
+            int position = order[pick];
+            order[pick] = order[next];
+            order[next++] = position;
+            return snapshot.get(position);
+        }
+
+        public int remaining() {
+            return order.length - next;
+        }
+    }
+}
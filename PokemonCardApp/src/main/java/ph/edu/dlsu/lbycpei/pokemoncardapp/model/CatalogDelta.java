@@ -0,0 +1,117 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CatalogDelta - Differences between two versions of a catalog
+ * Rows are matched by name, ignoring case. A row whose name exists in both
+ * versions but whose stats or type changed is an update.
+ */
+public final class CatalogDelta {
+
+    private final List<Pokemon> inserted;
+    private final List<Pokemon> updated;
+    private final List<String> removed;
+
+    private CatalogDelta(List<Pokemon> inserted, List<Pokemon> updated, List<String> removed) {
+        this.inserted = Collections.unmodifiableList(inserted);
+        this.updated = Collections.unmodifiableList(updated);
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Compute the changes that turn one catalog into another
+     * @param before Rows currently loaded
+     * @param after Rows of the new version
+     * @return The inserts, updates and removals; only the first row of a name counts
+     */
+    public static CatalogDelta between(Collection<? extends Pokemon> before, Collection<? extends Pokemon> after) {
+        return between(ColumnarCatalog.of(before.stream()), after);
+    }
+
+    /**
+     * Compute the changes that turn one catalog into another, reading the old version's
+     * rows from their columns without creating a Pokemon for each
+     * @param before Rows currently loaded
+     * @param after Rows of the new version
+     * @return The inserts, updates and removals; only the first row of a name counts
+     */
+    public static CatalogDelta between(ColumnarCatalog before, Collection<? extends Pokemon> after) {
+        Map<String, Integer> previous = new HashMap<>(before.size() * 4 / 3 + 1); // Key -> row
+        for (int row = 0; row < before.size(); row++) {
+            previous.putIfAbsent(NameIndex.key(before.getName(row)), row);
+        }
+        Map<String, Pokemon> current = byName(after);
+
+        List<Pokemon> inserted = new ArrayList<>();
+        List<Pokemon> updated = new ArrayList<>();
+        for (Map.Entry<String, Pokemon> entry : current.entrySet()) {
+            Integer old = previous.get(entry.getKey());
+            if (old == null) {
+                inserted.add(entry.getValue());
+            } else if (!sameCard(before, old, entry.getValue())) {
+                updated.add(entry.getValue());
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (int row = 0; row < before.size(); row++) {
+            String key = NameIndex.key(before.getName(row));
+            if (previous.get(key) == row && !current.containsKey(key)) {
+                removed.add(before.getName(row));
+            }
+        }
+        return new CatalogDelta(inserted, updated, removed);
+    }
+
+    /**
+     * Changes recorded as they were made, e.g. replayed from a mutation log or
+     * requested through the bulk operations of PokemonModel
+     * @param inserted Rows to append
+     * @param updated New values for the rows with these names
+     * @param removed Names whose rows are removed
+     * @return The delta
+     */
+    public static CatalogDelta of(Collection<Pokemon> inserted, Collection<Pokemon> updated,
+                                  Collection<String> removed) {
+        return new CatalogDelta(new ArrayList<>(inserted), new ArrayList<>(updated), new ArrayList<>(removed));
+    }
+
+    private static Map<String, Pokemon> byName(Collection<? extends Pokemon> pokemon) {
+        Map<String, Pokemon> map = new LinkedHashMap<>(pokemon.size() * 4 / 3 + 1);
+        for (Pokemon p : pokemon) {
+            map.putIfAbsent(NameIndex.key(p.getName()), p);
+        }
+        return map;
+    }
+
+    private static boolean sameCard(ColumnarCatalog a, int row, Pokemon b) {
+        return a.getName(row).equals(b.getName())
+                && a.getType(row).equals(b.getType())
+                && Double.compare(a.getWeight(row), b.getWeight()) == 0
+                && Double.compare(a.getHeight(row), b.getHeight()) == 0
+                && Double.compare(a.getAttack(row), b.getAttack()) == 0
+                && Double.compare(a.getDefense(row), b.getDefense()) == 0
+                && Double.compare(a.getStamina(row), b.getStamina()) == 0;
+    }
+
+    public List<Pokemon> getInserted() { return inserted; }
+    public List<Pokemon> getUpdated() { return updated; }
+    public List<String> getRemoved() { return removed; }
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("+%d inserted, ~%d updated, -%d removed",
+                inserted.size(), updated.size(), removed.size());
+    }
+}
@@ -0,0 +1,61 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CatalogSnapshot - Read-only view of the catalog at one point in time
+ *
+ * PokemonModel publishes a new snapshot after every change, so getting one is a
+ * field read and holding one never copies the catalog. A snapshot never changes;
+ * compare versions to tell whether the catalog has changed since it was taken.
+ */
+public final class CatalogSnapshot implements Iterable<Pokemon> {
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(0, List.of());
+
+    private final long version;
+    private final List<Pokemon> pokemon;
+
+    // The list must be unmodifiable and not shared with a writer
+    CatalogSnapshot(long version, List<Pokemon> pokemon) {
+        this.version = version;
+        this.pokemon = pokemon;
+    }
+
+    /**
+     * @return A number that increases with every change to the catalog
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Pokemon get(int index) {
+        return pokemon.get(index);
+    }
+
+    public int size() {
+        return pokemon.size();
+    }
+
+    public boolean isEmpty() {
+        return pokemon.isEmpty();
+    }
+
+    @Override
+    public Iterator<Pokemon> iterator() {
+        return pokemon.iterator();
+    }
+
+    public Stream<Pokemon> stream() {
+        return pokemon.stream();
+    }
+
+    /**
+     * @return The snapshot as an unmodifiable list, without copying
+     */
+    public List<Pokemon> asList() {
+        return pokemon;
+    }
+}
@@ -0,0 +1,258 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * ChunkedList - The catalog list, stored in chunks that snapshots share
+ *
+ * Cards are held in chunks of at most CHUNK cards. A chunk array is never modified
+ * once built: a write replaces only the chunks it touches, so snapshot() copies the
+ * chunk table rather than every card, and the chunks a write leaves alone are
+ * shared with earlier snapshots. Positions are found by a binary search over the
+ * first position of each chunk.
+ *
+ * Supports the writes PokemonModel makes: appending, removeIf and replaceAll.
+ */
+final class ChunkedList extends AbstractList<Pokemon> implements RandomAccess {
+
+    static final int CHUNK = 1024;
+
+    private static final Pokemon[][] NO_CHUNKS = new Pokemon[0][];
+
+    private Pokemon[][] chunks = NO_CHUNKS;
+    private int[] starts = new int[0]; // First position of each chunk
+    private int size = 0;
+
+    @Override
+    public Pokemon get(int index) {
+        return get(chunks, starts, size, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Pokemon> iterator() {
+        return new ChunkIterator(chunks);
+    }
+
+    @Override
+    public boolean add(Pokemon pokemon) {
+        return addAll(List.of(pokemon));
+    }
+
+    // Fills the last chunk, copying it once, then appends new full chunks
+    @Override
+    public boolean addAll(Collection<? extends Pokemon> pokemon) {
+        if (pokemon.isEmpty()) {
+            return false;
+        }
+        Pokemon[] added = pokemon.toArray(new Pokemon[0]);
+        int count = chunks.length;
+        int from = 0;
+        Pokemon[][] grown = Arrays.copyOf(chunks, count + 1 + (added.length + CHUNK - 1) / CHUNK);
+        if (count > 0 && grown[count - 1].length < CHUNK) {
+            Pokemon[] last = grown[count - 1];
+            from = Math.min(CHUNK - last.length, added.length);
+            Pokemon[] filled = Arrays.copyOf(last, last.length + from);
+            System.arraycopy(added, 0, filled, last.length, from);
+            grown[count - 1] = filled;
+        }
+        while (from < added.length) {
+            int to = Math.min(from + CHUNK, added.length);
+            grown[count++] = Arrays.copyOfRange(added, from, to);
+            from = to;
+        }
+        chunks = Arrays.copyOf(grown, count);
+        size += added.length;
+        modCount++;
+        updateStarts();
+        return true;
+    }
+
+    // The filter is tested once per card, in order; only chunks losing a card are rebuilt
+    @Override
+    public boolean removeIf(Predicate<? super Pokemon> filter) {
+        Pokemon[][] kept = new Pokemon[chunks.length][];
+        int count = 0;
+        int removed = 0;
+        boolean previousRebuilt = false;
+        for (Pokemon[] chunk : chunks) {
+            Pokemon[] survivors = null;
+            int survivorCount = 0;
+            for (int i = 0; i < chunk.length; i++) {
+                if (filter.test(chunk[i])) {
+                    if (survivors == null) {
+                        survivors = Arrays.copyOf(chunk, chunk.length);
+                        survivorCount = i;
+                    }
+                } else if (survivors != null) {
+                    survivors[survivorCount++] = chunk[i];
+                }
+            }
+            boolean rebuilt = survivors != null;
+            if (rebuilt) {
+                removed += chunk.length - survivorCount;
+                if (survivorCount == 0) {
+                    previousRebuilt = true; // Its neighbours are now next to each other
+                    continue;
+                }
+                chunk = Arrays.copyOf(survivors, survivorCount);
+            }
+            // A shrunk chunk is merged with a neighbour when both fit in one, so any two
+            // neighbouring chunks hold more than CHUNK cards and removals can't leave many tiny chunks
+            if ((rebuilt || previousRebuilt) && count > 0 && kept[count - 1].length + chunk.length <= CHUNK) {
+                Pokemon[] previous = kept[count - 1];
+                Pokemon[] merged = Arrays.copyOf(previous, previous.length + chunk.length);
+                System.arraycopy(chunk, 0, merged, previous.length, chunk.length);
+                kept[count - 1] = merged;
+                previousRebuilt = true;
+            } else {
+                kept[count++] = chunk;
+                previousRebuilt = rebuilt;
+            }
+        }
+        if (removed == 0) {
+            return false;
+        }
+        chunks = Arrays.copyOf(kept, count);
+        size -= removed;
+        modCount++;
+        updateStarts();
+        return true;
+    }
+
+    // Only chunks where the operator returns a different card are copied
+    @Override
+    public void replaceAll(UnaryOperator<Pokemon> operator) {
+        Pokemon[][] replaced = chunks.clone();
+        for (int c = 0; c < replaced.length; c++) {
+            Pokemon[] chunk = replaced[c];
+            Pokemon[] copy = null;
+            for (int i = 0; i < chunk.length; i++) {
+                Pokemon replacement = operator.apply(chunk[i]);
+                if (replacement != chunk[i]) {
+                    if (copy == null) {
+                        copy = chunk.clone();
+                    }
+                    copy[i] = replacement;
+                }
+            }
+            if (copy != null) {
+                replaced[c] = copy;
+            }
+        }
+        chunks = replaced;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        chunks = NO_CHUNKS;
+        starts = new int[0];
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @return An unmodifiable list of the current cards, sharing their chunks with this list
+     */
+    List<Pokemon> snapshot() {
+        return new Snapshot(chunks, starts, size);
+    }
+
+    // Number of chunks, for tests
+    int chunkCount() {
+        return chunks.length;
+    }
+
+    private void updateStarts() {
+        int[] updated = new int[chunks.length];
+        int position = 0;
+        for (int c = 0; c < chunks.length; c++) {
+            updated[c] = position;
+            position += chunks[c].length;
+        }
+        starts = updated;
+    }
+
+    private static Pokemon get(Pokemon[][] chunks, int[] starts, int size, int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int chunk = Arrays.binarySearch(starts, index);
+        if (chunk < 0) {
+            chunk = -chunk - 2; // The chunk starting before the index
+        }
+        return chunks[chunk][index - starts[chunk]];
+    }
+
+    /**
+     * The cards at one point in time; the arrays are never modified after it is made
+     */
+    private static final class Snapshot extends AbstractList<Pokemon> implements RandomAccess {
+        private final Pokemon[][] chunks;
+        private final int[] starts;
+        private final int size;
+
+        Snapshot(Pokemon[][] chunks, int[] starts, int size) {
+            this.chunks = chunks;
+            this.starts = starts;
+            this.size = size;
+        }
+
+        @Override
+        public Pokemon get(int index) {
+            return ChunkedList.get(chunks, starts, size, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Pokemon> iterator() {
+            return new ChunkIterator(chunks);
+        }
+    }
+
+    // Walks the chunks directly instead of searching for each position
+    private static final class ChunkIterator implements Iterator<Pokemon> {
+        private final Pokemon[][] chunks;
+        private int chunk = 0;
+        private int offset = 0;
+
+        ChunkIterator(Pokemon[][] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk < chunks.length;
+        }
+
+        @Override
+        public Pokemon next() {
+            if (chunk >= chunks.length) {
+                throw new NoSuchElementException();
+            }
+            Pokemon next = chunks[chunk][offset++];
+            if (offset == chunks[chunk].length) {
+                chunk++;
+                offset = 0;
+            }
+            return next;
+        }
+    }
+}
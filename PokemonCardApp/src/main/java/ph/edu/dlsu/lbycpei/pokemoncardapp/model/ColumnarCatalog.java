@@ -0,0 +1,192 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ColumnarCatalog - Struct-of-arrays copy of a catalog
+ *
+ * Every stat lives in its own primitive column. Names are UTF-8 bytes packed into
+ * one byte array and addressed by offset, and types, which repeat, are stored once
+ * in a pool and referenced by int codes. A card costs about 50 bytes plus its name's
+ * length instead of a Pokemon object plus two strings, and scanning one stat walks
+ * a single contiguous array.
+ *
+ * CatalogFileWatcher keeps the last version of a watched file in this form, as the
+ * baseline CatalogDelta diffs a reload against. The model and the view still hold
+ * Pokemon objects; get() creates one only for callers that need a whole card.
+ *
+ * Rows keep their insertion order. The store is append-only and not thread-safe.
+ */
+public final class ColumnarCatalog {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size = 0;
+    private int[] instanceIds = new int[INITIAL_CAPACITY];
+    private double[] weights = new double[INITIAL_CAPACITY];
+    private double[] heights = new double[INITIAL_CAPACITY];
+    private double[] attacks = new double[INITIAL_CAPACITY];
+    private double[] defenses = new double[INITIAL_CAPACITY];
+    private double[] staminas = new double[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+
+    // Name of row i is nameBytes[nameOffsets[i], nameOffsets[i + 1])
+    private int[] nameOffsets = new int[INITIAL_CAPACITY + 1];
+    private byte[] nameBytes = new byte[INITIAL_CAPACITY * 8];
+
+    private final StringPool types = new StringPool();
+
+    public ColumnarCatalog() {
+        // Empty store; see of()
+    }
+
+    /**
+     * Build a store from cards, e.g. the rows of a parsed catalog
+     * @param pokemon Cards in catalog order
+     * @return A store holding the same rows
+     */
+    public static ColumnarCatalog of(Stream<? extends AbstractPokemon> pokemon) {
+        ColumnarCatalog catalog = new ColumnarCatalog();
+        pokemon.forEachOrdered(catalog::add);
+        catalog.trimToSize();
+        return catalog;
+    }
+
+    public void add(AbstractPokemon pokemon) {
+        if (size == instanceIds.length) {
+            grow();
+        }
+        int row = size++;
+        instanceIds[row] = pokemon.getInstanceId();
+        weights[row] = pokemon.getWeight();
+        heights[row] = pokemon.getHeight();
+        attacks[row] = pokemon.getAttack();
+        defenses[row] = pokemon.getDefense();
+        staminas[row] = pokemon.getStamina();
+        typeCodes[row] = types.code(pokemon.getType());
+
+        byte[] name = pokemon.getName().getBytes(StandardCharsets.UTF_8);
+        int start = nameOffsets[row];
+        if (start + name.length > nameBytes.length) {
+            nameBytes = Arrays.copyOf(nameBytes, Math.max(nameBytes.length * 2, start + name.length));
+        }
+        System.arraycopy(name, 0, nameBytes, start, name.length);
+        nameOffsets[row + 1] = start + name.length;
+    }
+
+    /**
+     * Materialize the card at a row
+     * @param row Row index, from 0 to size() - 1
+     * @return A new Pokemon with the row's values
+     */
+    public Pokemon get(int row) {
+        checkRow(row);
+        return new Pokemon(instanceIds[row], name(row), weights[row], heights[row],
+                attacks[row], defenses[row], staminas[row], types.get(typeCodes[row]));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Per-row accessors that read the columns without creating a Pokemon
+
+    public int getInstanceId(int row) { checkRow(row); return instanceIds[row]; }
+    public String getName(int row) { checkRow(row); return name(row); }
+    public double getWeight(int row) { checkRow(row); return weights[row]; }
+    public double getHeight(int row) { checkRow(row); return heights[row]; }
+    public double getAttack(int row) { checkRow(row); return attacks[row]; }
+    public double getDefense(int row) { checkRow(row); return defenses[row]; }
+    public double getStamina(int row) { checkRow(row); return staminas[row]; }
+    public String getType(int row) { checkRow(row); return types.get(typeCodes[row]); }
+
+    /**
+     * @return Code of the row's type string; rows with the same type share a code
+     */
+    public int getTypeCode(int row) {
+        checkRow(row);
+        return typeCodes[row];
+    }
+
+    /**
+     * @return The type string for a code returned by getTypeCode
+     */
+    public String typeForCode(int code) {
+        return types.get(code);
+    }
+
+    public int typeCount() {
+        return types.size();
+    }
+
+    /**
+     * Release the spare capacity left by growing, e.g. once a file is fully loaded
+     */
+    public void trimToSize() {
+        instanceIds = Arrays.copyOf(instanceIds, size);
+        weights = Arrays.copyOf(weights, size);
+        heights = Arrays.copyOf(heights, size);
+        attacks = Arrays.copyOf(attacks, size);
+        defenses = Arrays.copyOf(defenses, size);
+        staminas = Arrays.copyOf(staminas, size);
+        typeCodes = Arrays.copyOf(typeCodes, size);
+        nameOffsets = Arrays.copyOf(nameOffsets, size + 1);
+        nameBytes = Arrays.copyOf(nameBytes, nameOffsets[size]);
+    }
+
+    private String name(int row) {
+        int start = nameOffsets[row];
+        return new String(nameBytes, start, nameOffsets[row + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, instanceIds.length * 2);
+        instanceIds = Arrays.copyOf(instanceIds, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        attacks = Arrays.copyOf(attacks, capacity);
+        defenses = Arrays.copyOf(defenses, capacity);
+        staminas = Arrays.copyOf(staminas, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+    }
+
+    /**
+     * Distinct strings numbered in order of first appearance. Only used for types,
+     * of which a catalog has a few hundred at most.
+     */
+    private static final class StringPool {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int code(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = strings.size();
+                codes.put(value, code);
+                strings.add(value);
+            }
+            return code;
+        }
+
+        String get(int code) {
+            return strings.get(code);
+        }
+
+        int size() {
+            return strings.size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Deduplicator - Resolves rows that share a name while a batch is loaded
+ *
+ * Rows are matched by their case-folded name in a hash map from name to the slot
+ * of the card kept for it, so each row costs one lookup and a collision is resolved
+ * in place by the DuplicatePolicy. After the batch, resolve() does the same against
+ * the cards already in the catalog, which turns a collision into an update or a drop.
+ */
+final class Deduplicator {
+
+    private final DuplicatePolicy policy;
+    private final List<Pokemon> kept = new ArrayList<>(); // null where LAST_WINS moved a name on
+    private final Map<String, Integer> slots = new HashMap<>(); // Key -> position in kept
+    private final Map<String, Integer> rowCounts = new HashMap<>(); // Key -> rows merged into the card, if more than one
+    private final Map<String, Integer> collisions = new LinkedHashMap<>(); // Key -> rows that collided
+    private final Map<String, String> firstNames = new HashMap<>(); // Key -> name as first read, for the report
+    private final List<Pokemon> inserted = new ArrayList<>();
+    private final List<Pokemon> updated = new ArrayList<>();
+    private int rowsRead = 0;
+
+    Deduplicator(DuplicatePolicy policy) {
+        this.policy = policy;
+    }
+
+    void add(Pokemon row) {
+        rowsRead++;
+        String key = NameIndex.key(row.getName());
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            slots.put(key, kept.size());
+            kept.add(row);
+            return;
+        }
+
+        Pokemon earlier = kept.get(slot);
+        collided(key, earlier.getName(), 1);
+        switch (policy) {
+            case FIRST_WINS -> { }
+            case LAST_WINS -> {
+                kept.set(slot, null);
+                slots.put(key, kept.size());
+                kept.add(row);
+            }
+            case MERGE -> kept.set(slot, merge(key, earlier, row));
+        }
+    }
+
+    /**
+     * Split the batch into new cards and updates of cards already loaded
+     * @param existing Looks up a loaded card by name, null if there is none
+     */
+    void resolve(Function<String, Pokemon> existing) {
+        for (Pokemon row : kept) {
+            if (row == null) {
+                continue;
+            }
+            Pokemon loaded = existing.apply(row.getName());
+            if (loaded == null) {
+                inserted.add(row);
+                continue;
+            }
+            String key = NameIndex.key(row.getName());
+            int rows = rowCounts.getOrDefault(key, 1);
+            collided(key, loaded.getName(), rows);
+            switch (policy) {
+                case FIRST_WINS -> { }
+                case LAST_WINS -> updated.add(row);
+                case MERGE -> updated.add(average(loaded, 1, row, rows)); // The loaded card counts as one row
+            }
+        }
+    }
+
+    List<Pokemon> getInserted() { return inserted; }
+    List<Pokemon> getUpdated() { return updated; }
+
+    DuplicateReport report() {
+        Map<String, Integer> byName = new LinkedHashMap<>();
+        collisions.forEach((key, rows) -> byName.put(firstNames.get(key), rows));
+        return new DuplicateReport(policy, rowsRead, byName);
+    }
+
+    // The first collision of a name is seen before any row replaced the first one
+    private void collided(String key, String firstName, int rows) {
+        firstNames.putIfAbsent(key, firstName);
+        collisions.merge(key, rows, Integer::sum);
+    }
+
+    private Pokemon merge(String key, Pokemon earlier, Pokemon row) {
+        int rows = rowCounts.getOrDefault(key, 1);
+        rowCounts.put(key, rows + 1);
+        return average(earlier, rows, row, 1);
+    }
+
+    // Weighted by the number of rows each side already stands for; name, type and ID come from the first
+    private static Pokemon average(Pokemon first, int firstRows, Pokemon second, int secondRows) {
+        double total = firstRows + secondRows;
+        double a = firstRows / total;
+        double b = secondRows / total;
+        return new Pokemon(first.getInstanceId(), first.getName(),
+                first.getWeight() * a + second.getWeight() * b,
+                first.getHeight() * a + second.getHeight() * b,
+                first.getAttack() * a + second.getAttack() * b,
+                first.getDefense() * a + second.getDefense() * b,
+                first.getStamina() * a + second.getStamina() * b,
+                first.getType());
+    }
+}
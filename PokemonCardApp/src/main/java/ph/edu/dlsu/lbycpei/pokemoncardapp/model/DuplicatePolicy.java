@@ -0,0 +1,47 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * DuplicatePolicy - What loading does with catalog rows whose names are equal, ignoring case
+ */
+public enum DuplicatePolicy {
+    // Keep the first row of a name and drop the rest, the card a search used to find
+    FIRST_WINS,
+    // Keep the last row of a name. Within a file it takes the last row's position;
+    // a card that was already loaded is updated in place.
+    LAST_WINS,
+    // Keep one card at the first row's position with the first row's type and
+    // every stat averaged over the rows of that name; a card loaded earlier counts as one row
+    MERGE;
+
+    /**
+     * Resolve the name collisions within one batch of rows, e.g. the rows of a catalog file
+     * @param rows Rows in file order
+     * @return One row per name, as loading this batch into an empty catalog would keep them
+     */
+    public List<Pokemon> resolve(List<Pokemon> rows) {
+        Deduplicator deduplicator = new Deduplicator(this);
+        rows.forEach(deduplicator::add);
+        deduplicator.resolve(name -> null);
+        return deduplicator.getInserted();
+    }
+
+    /**
+     * Look up a policy by name, e.g. from a system property
+     * @param name "first-wins", "LAST_WINS", "merge", ...; null or blank for the default
+     * @return The policy, or FIRST_WINS if the name is not recognized
+     */
+    public static DuplicatePolicy of(String name) {
+        if (name == null || name.isBlank()) {
+            return FIRST_WINS;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown duplicate policy: " + name + ", using " + FIRST_WINS);
+            return FIRST_WINS;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DuplicateReport - Rows that collided with an earlier row of the same name while loading
+ */
+public final class DuplicateReport {
+
+    static final DuplicateReport NONE = new DuplicateReport(null, 0, Map.of());
+
+    private final DuplicatePolicy policy;
+    private final int rowsRead;
+    private final Map<String, Integer> collisions;
+
+    DuplicateReport(DuplicatePolicy policy, int rowsRead, Map<String, Integer> collisions) {
+        this.policy = policy;
+        this.rowsRead = rowsRead;
+        this.collisions = Collections.unmodifiableMap(collisions);
+    }
+
+    // Combines the reports of successive loads, matching names ignoring case like the loads
+    // do; the earlier spelling and the later load's policy are reported
+    DuplicateReport plus(DuplicateReport other) {
+        Map<String, String> spellings = new HashMap<>();
+        Map<String, Integer> combined = new LinkedHashMap<>(collisions);
+        collisions.keySet().forEach(name -> spellings.put(NameIndex.key(name), name));
+        other.collisions.forEach((name, rows) ->
+                combined.merge(spellings.getOrDefault(NameIndex.key(name), name), rows, Integer::sum));
+        return new DuplicateReport(other.policy != null ? other.policy : policy,
+                rowsRead + other.rowsRead, combined);
+    }
+
+    // null when nothing has been loaded
+    public DuplicatePolicy getPolicy() { return policy; }
+    public int getRowsRead() { return rowsRead; }
+    public boolean hasDuplicates() { return !collisions.isEmpty(); }
+
+    /**
+     * @return Each colliding name, as first read, with the number of rows that collided
+     *         with an earlier one, in the order the collisions were found
+     */
+    public Map<String, Integer> getCollisions() { return collisions; }
+
+    public int getDuplicateRows() {
+        int rows = 0;
+        for (int count : collisions.values()) {
+            rows += count;
+        }
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d rows duplicated %d names (%s)",
+                getDuplicateRows(), rowsRead, collisions.size(), policy);
+    }
+}
@@ -0,0 +1,57 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NameIndex - Case-insensitive hash index from a Pokemon name to its card
+ * Only the first card of a name is indexed, which is the card a linear
+ * search in catalog order would have found.
+ */
+final class NameIndex {
+
+    private final Map<String, Pokemon> byName = new HashMap<>();
+
+    /**
+     * Case-folded lookup key. Two names have the same key exactly when
+     * String.equalsIgnoreCase considers them equal.
+     * @param name Pokemon name
+     * @return The folded name (the name itself when it is already folded)
+     */
+    static String key(String name) {
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (fold(c) != c) {
+                char[] folded = name.toCharArray();
+                for (int j = i; j < length; j++) {
+                    folded[j] = fold(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return name;
+    }
+
+    // Same per-character comparison equalsIgnoreCase uses
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    Pokemon get(String name) {
+        return byName.get(key(name));
+    }
+
+    // Keeps an existing entry, so the earliest card of a name stays indexed
+    void add(Pokemon pokemon) {
+        byName.putIfAbsent(key(pokemon.getName()), pokemon);
+    }
+
+    void replace(Pokemon pokemon) {
+        byName.put(key(pokemon.getName()), pokemon);
+    }
+
+    Pokemon remove(String name) {
+        return byName.remove(key(name));
+    }
+}
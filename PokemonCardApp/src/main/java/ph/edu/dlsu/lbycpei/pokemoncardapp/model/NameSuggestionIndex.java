@@ -0,0 +1,386 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * NameSuggestionIndex - Search-as-you-type index over Pokemon names
+ *
+ * Prefix matches come from an array of name ids kept sorted by case-folded name,
+ * so a query is a binary search plus a walk over at most limit entries.
+ * Typo-tolerant matches come from a trigram inverted index: with at most d edits
+ * a name keeps all but 3d of the query's trigrams, so only names that share enough
+ * of the query's rarer trigrams are confirmed with a bounded edit distance.
+ *
+ * Results are ranked exact match first, then prefix matches alphabetically, then
+ * fuzzy matches by edit distance. Queries may run on any thread; updates take a
+ * write lock.
+ *
+ * Removing a name leaves its id behind in the postings. Once removed ids outnumber
+ * live ones, the index is compacted: live ids are renumbered densely and the postings
+ * rewritten, so memory and fuzzy scan cost follow the live names, not the churn.
+ */
+final class NameSuggestionIndex {
+
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int MAX_FUZZY_CANDIDATES = 50_000; // Postings scanned per query, bounds latency for common trigrams
+    private static final int MIN_COMPACT_REMOVED = 64; // Small indexes are not worth renumbering
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Entries by id; a removed entry leaves a null key behind
+    private String[] keys = new String[16];
+    private String[] names = new String[16];
+    private int nextId = 0;
+    private int removedIds = 0; // Ids below nextId whose entry was removed
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+
+    // Live ids ordered by key
+    private int[] sorted = new int[16];
+    private int sortedSize = 0;
+
+    // Trigram -> ids of names containing it (may include removed ids)
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    /**
+     * Add names, ignoring ones already indexed (compared case-insensitively)
+     */
+    void addAll(Collection<String> newNames) {
+        lock.writeLock().lock();
+        try {
+            int[] added = new int[newNames.size()];
+            int count = 0;
+            for (String name : newNames) {
+                int id = insertEntry(name);
+                if (id >= 0) {
+                    added[count++] = id;
+                }
+            }
+            mergeIntoSorted(added, count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(String name) {
+        addAll(List.of(name));
+    }
+
+    void remove(String name) {
+        lock.writeLock().lock();
+        try {
+            String key = NameIndex.key(name);
+            Integer id = idsByKey.remove(key);
+            if (id == null) {
+                return;
+            }
+            int position = lowerBound(key);
+            System.arraycopy(sorted, position + 1, sorted, position, sortedSize - position - 1);
+            sortedSize--;
+            keys[id] = null;
+            names[id] = null;
+            removedIds++;
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drops the ids first and compacts the sorted array once, instead of shifting it per name
+    void removeAll(Collection<String> removedNames) {
+        if (removedNames.size() <= 1) {
+            removedNames.forEach(this::remove);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (String name : removedNames) {
+                Integer id = idsByKey.remove(NameIndex.key(name));
+                if (id != null) {
+                    keys[id] = null;
+                    names[id] = null;
+                    removedIds++;
+                }
+            }
+            int kept = 0;
+            for (int i = 0; i < sortedSize; i++) {
+                if (keys[sorted[i]] != null) {
+                    sorted[kept++] = sorted[i];
+                }
+            }
+            sortedSize = kept;
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Suggest names for what the user has typed so far
+     * @param query Partial or misspelled name
+     * @param limit Maximum number of suggestions
+     * @return Up to limit names, best first
+     */
+    List<String> suggest(String query, int limit) {
+        String key = NameIndex.key(query.trim());
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> results = new LinkedHashSet<>();
+
+            // Exact and prefix matches, alphabetically (an exact match sorts first)
+            for (int i = lowerBound(key); i < sortedSize && results.size() < limit; i++) {
+                int id = sorted[i];
+                if (!keys[id].startsWith(key)) {
+                    break;
+                }
+                results.add(names[id]);
+            }
+
+            if (results.size() < limit && key.length() >= MIN_FUZZY_LENGTH) {
+                for (String name : fuzzyMatches(key, limit)) {
+                    if (results.size() == limit) {
+                        break;
+                    }
+                    results.add(name);
+                }
+            }
+            return new ArrayList<>(results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> fuzzyMatches(String key, int limit) {
+        int maxDistance = key.length() <= 5 ? 1 : 2;
+        long[] trigrams = trigrams(key);
+
+        // Each edit destroys at most 3 of the query's trigrams, so a match shares at least
+        // (lists scanned - 3d) of them. Rarest lists first, stopping once enough are scanned.
+        IntList[] lists = new IntList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            lists[i] = postings.getOrDefault(trigrams[i], IntList.EMPTY);
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int scanned = 0;
+        int total = 0;
+        while (scanned < lists.length
+                && (scanned <= 3 * maxDistance || total + lists[scanned].size <= MAX_FUZZY_CANDIDATES)) {
+            total += lists[scanned++].size;
+        }
+        int threshold = Math.max(1, scanned - 3 * maxDistance);
+
+        // Count shared trigrams per id by sorting the concatenated postings
+        int[] ids = new int[total];
+        int offset = 0;
+        for (int p = 0; p < scanned; p++) {
+            System.arraycopy(lists[p].values, 0, ids, offset, lists[p].size);
+            offset += lists[p].size;
+        }
+        Arrays.sort(ids);
+
+        List<int[]> matches = new ArrayList<>(); // {id, distance}
+        for (int i = 0; i < ids.length; ) {
+            int id = ids[i];
+            int run = i;
+            while (run < ids.length && ids[run] == id) {
+                run++;
+            }
+            if (run - i >= threshold && keys[id] != null) {
+                int distance = boundedDistance(key, keys[id], maxDistance);
+                if (distance <= maxDistance) {
+                    matches.add(new int[] {id, distance});
+                }
+            }
+            i = run;
+        }
+        matches.sort((a, b) -> {
+            int byDistance = Integer.compare(a[1], b[1]);
+            return byDistance != 0 ? byDistance : keys[a[0]].compareTo(keys[b[0]]);
+        });
+
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(names[matches.get(i)[0]]);
+        }
+        return result;
+    }
+
+    // Levenshtein distance, or maxDistance + 1 as soon as it is known to exceed maxDistance
+    static int boundedDistance(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    // Distinct trigrams of the key padded with a start and end marker, packed into longs
+    private static long[] trigrams(String key) {
+        String padded = '\u0002' + key + '\u0003';
+        long[] result = new long[padded.length() - 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return Arrays.stream(result).distinct().toArray();
+    }
+
+    // Returns the new id, or -1 if the name is already indexed
+    private int insertEntry(String name) {
+        String key = NameIndex.key(name);
+        Integer existing = idsByKey.get(key);
+        if (existing != null) {
+            return -1;
+        }
+        if (nextId == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        int id = nextId++;
+        keys[id] = key;
+        names[id] = name;
+        idsByKey.put(key, id);
+        for (long trigram : trigrams(key)) {
+            postings.computeIfAbsent(trigram, t -> new IntList()).add(id);
+        }
+        return id;
+    }
+
+    // Sort the new ids, then merge them into the existing order from the back, in place.
+    // The array only grows when it is full, so a single add shifts part of it and allocates nothing.
+    private void mergeIntoSorted(int[] added, int count) {
+        if (count == 0) {
+            return;
+        }
+        Integer[] boxed = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            boxed[i] = added[i];
+        }
+        Arrays.sort(boxed, (a, b) -> keys[a].compareTo(keys[b]));
+
+        if (sortedSize + count > sorted.length) {
+            sorted = Arrays.copyOf(sorted, Math.max(sorted.length * 2, sortedSize + count));
+        }
+        int i = sortedSize - 1;
+        int j = count - 1;
+        int k = sortedSize + count - 1;
+        while (j >= 0) {
+            sorted[k--] = i >= 0 && keys[sorted[i]].compareTo(keys[boxed[j]]) > 0 ? sorted[i--] : boxed[j--];
+        }
+        sortedSize += count;
+    }
+
+    // Renumbers the live ids densely, keeping their relative order, once removed ids outnumber them
+    private void compactIfSparse() {
+        int live = nextId - removedIds;
+        if (removedIds < MIN_COMPACT_REMOVED || removedIds <= live) {
+            return;
+        }
+        int[] newIds = new int[nextId];
+        int capacity = Math.max(16, live * 3 / 2);
+        String[] liveKeys = new String[capacity];
+        String[] liveNames = new String[capacity];
+        int next = 0;
+        for (int id = 0; id < nextId; id++) {
+            if (keys[id] == null) {
+                newIds[id] = -1;
+                continue;
+            }
+            newIds[id] = next;
+            liveKeys[next] = keys[id];
+            liveNames[next] = names[id];
+            idsByKey.put(keys[id], next);
+            next++;
+        }
+        keys = liveKeys;
+        names = liveNames;
+        nextId = next;
+        removedIds = 0;
+
+        for (int i = 0; i < sortedSize; i++) {
+            sorted[i] = newIds[sorted[i]];
+        }
+        if (sorted.length > capacity) {
+            sorted = Arrays.copyOf(sorted, Math.max(capacity, sortedSize));
+        }
+        postings.values().removeIf(list -> list.remap(newIds));
+    }
+
+    // First position whose key is >= the given key
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = sortedSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[sorted[mid]].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Growable list of ints for postings
+     */
+    private static final class IntList {
+        static final IntList EMPTY = new IntList();
+
+        int[] values = new int[4];
+        int size = 0;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // Replaces each id with newIds[id], dropping ids mapped to -1; true if the list is left empty
+        boolean remap(int[] newIds) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int id = newIds[values[i]];
+                if (id >= 0) {
+                    values[kept++] = id;
+                }
+            }
+            size = kept;
+            if (values.length > 4 && size < values.length / 4) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+            return size == 0;
+        }
+    }
+}
@@ -3,9 +3,34 @@ package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
 // Concrete Pokemon implementation
 public class Pokemon extends AbstractPokemon {
 
+    // Parsed once from the type string, e.g. "Fire-Flying" gives FIRE and FLYING.
+    // The names are the type's own constants for known types.
+    private final PokemonType primaryType;
+    private final PokemonType secondaryType; // null for single-type Pokemon
+    private final String primaryTypeName;
+    private final String secondaryTypeName;
+
     public Pokemon(int instanceId, String name, double weight, double height,
                    double attack, double defense, double stamina, String type) {
         super(instanceId, name, weight, height, attack, defense, stamina, type);
+
+        int dash = type.indexOf('-');
+        String first = dash < 0 ? type : type.substring(0, dash);
+        primaryType = PokemonType.of(first);
+        primaryTypeName = typeName(primaryType, first);
+        if (dash < 0 || dash == type.length() - 1) { // "Fire-" is single-type, as split("-") saw it
+            secondaryType = null;
+            secondaryTypeName = null;
+        } else {
+            int end = type.indexOf('-', dash + 1);
+            String second = type.substring(dash + 1, end < 0 ? type.length() : end);
+            secondaryType = PokemonType.of(second);
+            secondaryTypeName = typeName(secondaryType, second);
+        }
+    }
+
+    private static String typeName(PokemonType code, String text) {
+        return text.equals(code.getDisplayName()) ? code.getDisplayName() : text;
     }
 
     @Override
@@ -15,42 +40,26 @@ public class Pokemon extends AbstractPokemon {
 
     @Override
     public String getTypeBackground() {
-        String[] types = type.split("-");
-        String primaryType = types[0].toUpperCase();
-        return getTypeBackground(primaryType);
+        return primaryType.getBackground();
     }
 
     // Follow the first type by default
     public String getTypeBackground(String customType) {
-        return switch (customType) {
-            case "WATER" -> "linear-gradient(to bottom, #6BB6FF, #0066CC)";
-            case "FIRE" -> "linear-gradient(to bottom, #FF6B6B, #CC0000)";
-            case "GRASS" -> "linear-gradient(to bottom, #4CAF50, #2E7D32)";
-            case "ELECTRIC" -> "linear-gradient(to bottom, #FFD700, #FFA500)";
-            case "PSYCHIC" -> "linear-gradient(to bottom, #FF69B4, #8B008B)";
-            case "ICE" -> "linear-gradient(to bottom, #87CEEB, #4169E1)";
-            case "DRAGON" -> "linear-gradient(to bottom, #9370DB, #4B0082)";
-            case "DARK" -> "linear-gradient(to bottom, #696969, #2F2F2F)";
-            case "FIGHTING" -> "linear-gradient(to bottom, #CD853F, #8B4513)";
-            case "POISON" -> "linear-gradient(to bottom, #9932CC, #4B0082)";
-            case "GROUND" -> "linear-gradient(to bottom, #DEB887, #8B7355)";
-            case "FLYING" -> "linear-gradient(to bottom, #87CEEB, #6495ED)";
-            case "BUG" -> "linear-gradient(to bottom, #9ACD32, #556B2F)";
-            case "ROCK" -> "linear-gradient(to bottom, #A0522D, #654321)";
-            case "GHOST" -> "linear-gradient(to bottom, #9370DB, #483D8B)";
-            case "STEEL" -> "linear-gradient(to bottom, #C0C0C0, #708090)";
-            case "FAIRY" -> "linear-gradient(to bottom, #FFB6C1, #FF69B4)";
-            case "NORMAL" -> "linear-gradient(to bottom, #F5F5DC, #D2B48C)";
-            default -> "linear-gradient(to bottom, #F0F0F0, #D0D0D0)";
-        };
+        return PokemonType.of(customType).getBackground();
     }
 
     public String getSecondBackground() {
-        String[] types = type.split("-");
-        if (types.length < 2) {
-            return "linear-gradient(to bottom, #F0F0F0, #D0D0D0)"; // Default
+        if (secondaryType == null) {
+            return PokemonType.DEFAULT_BACKGROUND; // Default
         }
-        String secondType = types[1].toUpperCase();
-        return getTypeBackground(secondType);
+        return secondaryType.getBackground();
     }
+
+    public PokemonType getPrimaryType() { return primaryType; }
+    public PokemonType getSecondaryType() { return secondaryType; }
+    public boolean hasSecondaryType() { return secondaryType != null; }
+
+    // Type names as written in the catalog
+    public String getPrimaryTypeName() { return primaryTypeName; }
+    public String getSecondaryTypeName() { return secondaryTypeName; }
 }
@@ -0,0 +1,351 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * PokemonCSVParser - Single-pass parser for Pokemon catalog rows
+ * Expected format: Name,Weight,Height,Stat1,Stat2,Stat3,Type
+ * (e.g. "Pikachu,6.0kg,0.4m,0.55,0.40,0.35,Electric")
+ *
+ * Like the original split-based check, empty fields at the end of a row are ignored,
+ * so "...,Water,," reads as "...,Water". A field holding only spaces still counts.
+ *
+ * A row is validated and converted in one scan over its characters. Numeric fields
+ * are decoded in place rather than split out into substrings, so the only strings
+ * allocated per row are the name and, when not already cached, the type.
+ *
+ * Instances keep per-row cursor state and a small type cache, so they are not
+ * thread-safe: use one parser per loading thread.
+ *
+ * Text does not have to be a String: any CharSequence whose delimiters, digits and
+ * units are ASCII works, including byte-backed views over UTF-8 data as long as
+ * their subSequence(...).toString() decodes the bytes.
+ */
+public final class PokemonCSVParser {
+
+    private static final int FIELD_COUNT = 7;
+    private static final int TYPE_CACHE_SIZE = 64; // Must be a power of two
+
+    // 10^0 to 10^22 are exact doubles, so mantissa / 10^n is correctly rounded
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_FAST_DIGITS = 18;
+
+    private final boolean assignInstanceIds;
+    private final String[] typeCache = new String[TYPE_CACHE_SIZE];
+
+    // Cursor over the row currently being parsed
+    private CharSequence text;
+    private int lineStart;
+    private int lineNumber;
+    private int pos;
+    private int end;
+
+    // Fields decoded from the last row
+    private String name;
+    private double weight;
+    private double height;
+    private double attack;
+    private double defense;
+    private double stamina;
+    private String type;
+
+    /**
+     * Create a parser whose Pokemon get their instance IDs from PokemonFactory
+     */
+    public PokemonCSVParser() {
+        this(true);
+    }
+
+    /**
+     * Create a parser
+     * @param assignInstanceIds false to leave instance IDs at 0, e.g. when rows are parsed
+     *                          out of order and numbered later with PokemonFactory.assignInstanceIds
+     */
+    public PokemonCSVParser(boolean assignInstanceIds) {
+        this.assignInstanceIds = assignInstanceIds;
+    }
+
+    /**
+     * Parse a single CSV line into a Pokemon
+     * @param line The raw CSV line
+     * @param lineNumber 1-based line number used in error messages (0 if unknown)
+     * @return The created Pokemon
+     * @throws CSVParseException if the line is malformed
+     */
+    public Pokemon parse(CharSequence line, int lineNumber) {
+        return parse(line, 0, line.length(), lineNumber);
+    }
+
+    /**
+     * Parse the row stored in text[start, end) into a Pokemon
+     * @param text Buffer holding the row (line terminators may be included)
+     * @param start Index of the first character of the row
+     * @param end Index one past the last character of the row
+     * @param lineNumber 1-based line number used in error messages (0 if unknown)
+     * @return The created Pokemon
+     * @throws CSVParseException if the row is malformed
+     */
+    public Pokemon parse(CharSequence text, int start, int end, int lineNumber) {
+        scan(text, start, end, lineNumber, true);
+        if (!assignInstanceIds) {
+            return new Pokemon(0, name, weight, height, attack, defense, stamina, type);
+        }
+        return PokemonFactory.createPokemon(name, weight, height, attack, defense, stamina, type);
+    }
+
+    /**
+     * Format a Pokemon as a row this parser reads back to the same values
+     * @param pokemon The Pokemon to format
+     * @return The CSV row, without a line terminator
+     */
+    public static String format(AbstractPokemon pokemon) {
+        return pokemon.getName() + ',' + pokemon.getWeight() + "kg," + pokemon.getHeight() + "m,"
+                + pokemon.getAttack() + ',' + pokemon.getDefense() + ',' + pokemon.getStamina() + ','
+                + pokemon.getType();
+    }
+
+    /**
+     * Check whether a row is well formed without creating a Pokemon
+     * @param line The raw CSV line
+     * @return true if valid, false otherwise
+     */
+    public boolean isValid(CharSequence line) {
+        try {
+            scan(line, 0, line.length(), 0, false);
+            return true;
+        } catch (CSVParseException e) {
+            return false;
+        }
+    }
+
+    private void scan(CharSequence text, int start, int end, int lineNumber, boolean materialize) {
+        this.text = text;
+        this.lineStart = start;
+        this.lineNumber = lineNumber;
+        try {
+            // Same clean-up CSVFileLoader applies: trim, drop one trailing comma, unwrap quotes
+            int from = trimStart(start, end);
+            int to = trimEnd(from, end);
+            if (to > from && text.charAt(to - 1) == ',') {
+                to--;
+            }
+            if (to - from >= 2 && text.charAt(from) == '"' && text.charAt(to - 1) == '"') {
+                from++;
+                to--;
+            }
+            // String.split dropped trailing empty fields, so accept them too
+            while (to > from && text.charAt(to - 1) == ',') {
+                to--;
+            }
+            if (from == to) {
+                throw error("Empty line", from);
+            }
+            this.pos = from;
+            this.end = to;
+
+            // Field 0: Name (should not be empty)
+            int fieldEnd = nextField("weight");
+            int nameStart = trimStart(pos, fieldEnd);
+            int nameEnd = trimEnd(nameStart, fieldEnd);
+            if (nameStart == nameEnd) {
+                throw error("Name is empty", pos);
+            }
+            if (materialize) {
+                name = text.subSequence(nameStart, nameEnd).toString();
+            }
+            pos = fieldEnd + 1;
+
+            // Fields 1 and 2: Weight and height with their units
+            fieldEnd = nextField("height");
+            weight = parseNumber(fieldEnd, "kg", "weight");
+            pos = fieldEnd + 1;
+
+            fieldEnd = nextField("attack");
+            height = parseNumber(fieldEnd, "m", "height");
+            pos = fieldEnd + 1;
+
+            // Fields 3, 4, 5: Stats
+            fieldEnd = nextField("defense");
+            attack = parseNumber(fieldEnd, null, "attack");
+            pos = fieldEnd + 1;
+
+            fieldEnd = nextField("stamina");
+            defense = parseNumber(fieldEnd, null, "defense");
+            pos = fieldEnd + 1;
+
+            fieldEnd = nextField("type");
+            stamina = parseNumber(fieldEnd, null, "stamina");
+            pos = fieldEnd + 1;
+
+            // Field 6: Type (rest of the row, should not be empty)
+            int extraComma = indexOfComma(pos, this.end);
+            if (extraComma != this.end) {
+                throw error("Expected " + FIELD_COUNT + " fields but found more", extraComma);
+            }
+            int typeStart = trimStart(pos, this.end);
+            int typeEnd = trimEnd(typeStart, this.end);
+            if (typeStart == typeEnd) {
+                throw error("Type is empty", pos);
+            }
+            if (materialize) {
+                type = typeString(typeStart, typeEnd);
+            }
+        } finally {
+            this.text = null; // Do not pin the caller's buffer
+        }
+    }
+
+    // Returns the comma ending the current field; nextFieldName is reported if there is none
+    private int nextField(String nextFieldName) {
+        int comma = indexOfComma(pos, end);
+        if (comma == end) {
+            throw error("Missing " + nextFieldName + " field", end);
+        }
+        return comma;
+    }
+
+    private int indexOfComma(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == ',') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private int trimStart(int from, int to) {
+        while (from < to && text.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private int trimEnd(int from, int to) {
+        while (to > from && text.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    private double parseNumber(int fieldEnd, String unit, String fieldName) {
+        int from = trimStart(pos, fieldEnd);
+        int to = trimEnd(from, fieldEnd);
+
+        if (unit != null) {
+            if (!regionEndsWith(from, to, unit)) {
+                throw error("Expected " + fieldName + " ending with '" + unit + "'", from);
+            }
+            to = trimEnd(from, to - unit.length());
+        }
+        if (from == to) {
+            throw error("Missing " + fieldName + " value", from);
+        }
+        return parseDouble(from, to, fieldName);
+    }
+
+    /**
+     * Decode a plain decimal such as "0.55" or "-12" without allocating.
+     * Anything else (exponents, long mantissas, NaN...) goes through Double.parseDouble
+     * so the accepted syntax and the result are exactly what the old parser produced.
+     */
+    private double parseDouble(int from, int to, String fieldName) {
+        int i = from;
+        boolean negative = false;
+        char c = text.charAt(i);
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+        for (; i < to; i++) {
+            c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (significantDigits == MAX_FAST_DIGITS) {
+                    return parseDoubleSlow(from, to, fieldName);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+                if (seenDot) {
+                    fractionDigits++;
+                }
+                seenDigit = true;
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                return parseDoubleSlow(from, to, fieldName);
+            }
+        }
+
+        if (!seenDigit || mantissa > MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return parseDoubleSlow(from, to, fieldName);
+        }
+        double value = fractionDigits == 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlow(int from, int to, String fieldName) {
+        String number = text.subSequence(from, to).toString();
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw error("Invalid " + fieldName + " value '" + number + "'", from);
+        }
+    }
+
+    private boolean regionEndsWith(int from, int to, String suffix) {
+        int length = suffix.length();
+        if (to - from < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(to - length + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Types repeat across the catalog, so reuse the String of an identical earlier type.
+    // Only ASCII types are cached: byte-backed text exposes raw UTF-8 bytes through charAt,
+    // which could otherwise match an unrelated cached non-ASCII string.
+    private String typeString(int from, int to) {
+        int hash = 0;
+        boolean ascii = true;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            hash = 31 * hash + c;
+            ascii &= c < 0x80;
+        }
+        if (!ascii) {
+            return text.subSequence(from, to).toString();
+        }
+        int slot = (hash ^ (hash >>> 16)) & (TYPE_CACHE_SIZE - 1);
+
+        String cached = typeCache[slot];
+        if (cached != null && cached.length() == to - from) {
+            boolean same = true;
+            for (int i = from; i < to && same; i++) {
+                same = cached.charAt(i - from) == text.charAt(i);
+            }
+            if (same) {
+                return cached;
+            }
+        }
+        String value = text.subSequence(from, to).toString();
+        typeCache[slot] = value;
+        return value;
+    }
+
+    private CSVParseException error(String message, int index) {
+        return new CSVParseException(message, lineNumber, index - lineStart + 1);
+    }
+}
@@ -1,5 +1,6 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 // Pokemon Factory
@@ -12,28 +13,15 @@ public class PokemonFactory {
         return new Pokemon(counter.incrementAndGet(), name, weight, height, attack, defense, stamina, type);
     }
 
-    public static Pokemon createPokemonFromCSV(String csvLine) {
-        String[] parts = csvLine.split(",");
-        if (parts.length != 7) {
-            throw new IllegalArgumentException("Invalid CSV format");
+    // Numbers Pokemon that were created without an ID (see PokemonCSVParser), in list order
+    public static void assignInstanceIds(List<? extends AbstractPokemon> pokemon) {
+        int next = counter.getAndAdd(pokemon.size());
+        for (AbstractPokemon p : pokemon) {
+            p.instanceId = ++next;
         }
-
-        String name = parts[0].trim();
-        double weight = parseWeight(parts[1].trim());
-        double height = parseHeight(parts[2].trim());
-        double attack = Double.parseDouble(parts[3].trim());
-        double defense = Double.parseDouble(parts[4].trim());
-        double stamina = Double.parseDouble(parts[5].trim());
-        String type = parts[6].trim();
-
-        return createPokemon(name, weight, height, attack, defense, stamina, type);
     }
 
-    private static double parseWeight(String weightStr) {
-        return Double.parseDouble(weightStr.replace("kg", ""));
-    }
-
-    private static double parseHeight(String heightStr) {
-        return Double.parseDouble(heightStr.replace("m", ""));
+    public static Pokemon createPokemonFromCSV(String csvLine) {
+        return new PokemonCSVParser().parse(csvLine, 0);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
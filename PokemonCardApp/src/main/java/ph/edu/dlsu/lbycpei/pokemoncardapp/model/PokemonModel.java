@@ -1,23 +1,136 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
 
 import ph.edu.dlsu.lbycpei.pokemoncardapp.config.AppConfig;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.utils.BinaryCatalog;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.utils.CSVFileLoader;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.utils.MutationLog;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+/**
+ * PokemonModel - The card catalog and its indexes
+ *
+ * Safe to use from several threads. Writers (loads, removals, catalog deltas) take
+ * a write lock, update the list and every index together, then publish an immutable
+ * CatalogSnapshot of the list. Reads of the whole catalog use the published snapshot
+ * without locking; index lookups take the read lock, so they never see a half-applied change.
+ */
 public class PokemonModel {
-    private final List<Pokemon> pokemonList;
-    private final Random random;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ChunkedList pokemonList; // Guarded by lock
+    private volatile CatalogSnapshot published = CatalogSnapshot.EMPTY;
+    private volatile CardSampler powerSampler; // Built for one snapshot, replaced when it changes
+    private volatile SimilarityIndex similarityIndex; // Likewise
+    private MutationLog mutationLog; // Guarded by lock; null until openMutationLog
+    private final NameIndex nameIndex = new NameIndex();
+    private final NameSuggestionIndex suggestionIndex = new NameSuggestionIndex();
+    private final TypeIndex typeIndex = new TypeIndex();
+    private final PowerRanking powerRanking = new PowerRanking();
+    private final StatRangeIndex statIndex = new StatRangeIndex();
+    private final TypeAggregates typeStats = new TypeAggregates();
+    private final DuplicatePolicy duplicatePolicy;
+    private volatile DuplicateReport duplicateReport = DuplicateReport.NONE;
 
     public PokemonModel() {
-        this.pokemonList = new ArrayList<>();
-        this.random = new Random();
+        this(configuredDuplicatePolicy());
+    }
+
+    // Rows sharing a name are resolved by the given policy instead of the configured one
+    public PokemonModel(DuplicatePolicy duplicatePolicy) {
+        this.pokemonList = new ChunkedList();
+        this.duplicatePolicy = duplicatePolicy;
         loadPokemonFromCSV();
+        reportDuplicates();
+    }
+
+    // Uses an external catalog file instead of the bundled CSV and sample data
+    public PokemonModel(File catalogFile) {
+        this(catalogFile, configuredDuplicatePolicy());
+    }
+
+    public PokemonModel(File catalogFile, DuplicatePolicy duplicatePolicy) {
+        this.pokemonList = new ChunkedList();
+        this.duplicatePolicy = duplicatePolicy;
+        loadPokemonFromFile(catalogFile);
+        reportDuplicates();
+    }
+
+    // e.g. -Dpokemon.duplicates=last-wins
+    private static DuplicatePolicy configuredDuplicatePolicy() {
+        return DuplicatePolicy.of(System.getProperty(AppConfig.DUPLICATE_POLICY_PROPERTY));
+    }
+
+    private void reportDuplicates() {
+        if (duplicateReport.hasDuplicates()) {
+            System.err.println("Duplicate Pokemon rows: " + duplicateReport);
+        }
+    }
+
+    public DuplicatePolicy getDuplicatePolicy() {
+        return duplicatePolicy;
+    }
+
+    /**
+     * @return The rows that collided by name in every load so far, and how they were resolved
+     */
+    public DuplicateReport getDuplicateReport() {
+        return duplicateReport;
+    }
+
+    // Large catalogs are memory-mapped and parsed in parallel, keeping file order.
+    // A binary snapshot of the parsed file is reused until the file changes.
+    public void loadPokemonFromFile(File catalogFile) {
+        BinaryCatalog.SourceStamp stamp = BinaryCatalog.SourceStamp.of(catalogFile);
+        Path snapshot = snapshotPath(catalogFile.getName() + "-"
+                + Integer.toHexString(catalogFile.getAbsolutePath().hashCode()));
+
+        List<Pokemon> cached = BinaryCatalog.loadIfFresh(snapshot, stamp);
+        if (cached != null) {
+            ingest(cached);
+            return;
+        }
+
+        List<Pokemon> loaded = CSVFileLoader.loadPokemonMapped(catalogFile);
+        ingest(loaded); // The snapshot keeps every row, so a different policy applies on the next launch
+        if (catalogFile.isFile() && !loaded.isEmpty()) {
+            writeSnapshotInBackground(snapshot, loaded, stamp);
+        }
     }
 
     private void loadPokemonFromCSV() {
 
-        String[] csvData = CSVFileLoader.loadCSVFromResources(AppConfig.DATA_PATH);
+        // Reuse the binary snapshot of the bundled CSV while it is current
+        BinaryCatalog.SourceStamp stamp = BinaryCatalog.SourceStamp.ofResource(AppConfig.DATA_PATH);
+        Path snapshot = snapshotPath(AppConfig.DATA_PATH);
+        List<Pokemon> cached = BinaryCatalog.loadIfFresh(snapshot, stamp);
+
+        if (cached != null) {
+            ingest(cached);
+        } else {
+            // Rows are parsed as they are read and deduplicated in one pass over them
+            boolean complete = true;
+            List<Pokemon> rows = new ArrayList<>();
+            try (Stream<Pokemon> stream = CSVFileLoader.streamPokemonFromResources(AppConfig.DATA_PATH)) {
+                stream.forEachOrdered(rows::add);
+            } catch (UncheckedIOException e) {
+                System.err.println("Error reading Pokemon data: " + e.getMessage());
+                complete = false;
+            }
+            ingest(rows);
+            if (complete && stamp != null) {
+                writeSnapshotInBackground(snapshot, rows, stamp);
+            }
+        }
 
         // Sample data - in real implementation, this would read from actual CSV file
         String[] sampleData = {
@@ -39,7 +152,68 @@ public class PokemonModel {
                 "Gyarados,235.0kg,6.5m,1.0,0.79,0.95,Water-Flying"
         };
 
-        createPokemons(concatenate(csvData, sampleData));
+        createPokemons(sampleData);
+    }
+
+    /**
+     * Make changes durable. The log's removals and inserts are applied to the loaded
+     * catalog, and every later removal is appended to it.
+     * @param logFile Log for this catalog; created if it does not exist
+     * @throws IOException if the log cannot be read or opened for writing
+     */
+    public void openMutationLog(Path logFile) throws IOException {
+        MutationLog log = MutationLog.open(logFile);
+        lock.writeLock().lock();
+        try {
+            CatalogDelta recovered = log.getRecovered();
+            if (!recovered.isEmpty()) {
+                apply(recovered, false); // Logged inserts were resolved by insertAll when they were made
+            }
+            mutationLog = log;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Writes out pending log records and closes the log
+    public void closeMutationLog() {
+        lock.writeLock().lock();
+        try {
+            if (mutationLog != null) {
+                mutationLog.close();
+                mutationLog = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Log file name for a catalog, e.g. to pass to openMutationLog
+     * @param catalogFile External catalog file, or null for the bundled catalog
+     */
+    public static Path mutationLogPath(File catalogFile) {
+        String name = catalogFile == null ? AppConfig.DATA_PATH : catalogFile.getName() + "-"
+                + Integer.toHexString(catalogFile.getAbsolutePath().hashCode());
+        return Paths.get(AppConfig.MUTATION_LOG_DIR, name + ".log");
+    }
+
+    private static Path snapshotPath(String sourceName) {
+        return Paths.get(AppConfig.SNAPSHOT_DIR, sourceName + ".snapshot");
+    }
+
+    // Writing the snapshot is not needed for this launch, so keep it off the startup path
+    private static void writeSnapshotInBackground(Path snapshot, List<Pokemon> rows,
+                                                  BinaryCatalog.SourceStamp stamp) {
+        Thread writer = new Thread(() -> {
+            try {
+                BinaryCatalog.write(snapshot, rows, stamp);
+            } catch (IOException e) {
+                System.err.println("Could not write catalog snapshot: " + e.getMessage());
+            }
+        }, "catalog-snapshot-writer");
+        writer.setDaemon(true);
+        writer.start();
     }
 
     public String[] concatenate(String[] array1, String[] array2) {
@@ -53,37 +227,512 @@ public class PokemonModel {
     }
 
     private void createPokemons(String[] lines){
+        PokemonCSVParser parser = new PokemonCSVParser();
+        List<Pokemon> created = new ArrayList<>(lines.length);
         for (String line : lines) {
             try {
-                Pokemon pokemon = PokemonFactory.createPokemonFromCSV(line);
-                pokemonList.add(pokemon);
-            } catch (Exception e) {
-                System.err.println("Error parsing Pokemon data: " + line);
+                created.add(parser.parse(line, 0));
+            } catch (CSVParseException e) {
+                System.err.println("Error parsing Pokemon data: " + line + " (" + e.getMessage() + ")");
             }
         }
+        ingest(created);
+    }
+
+    // Loaded rows go through here: rows sharing a name, with each other or with a card
+    // already loaded, are resolved by the duplicate policy before they reach the list
+    private void ingest(List<Pokemon> rows) {
+        Deduplicator deduplicator = new Deduplicator(duplicatePolicy);
+        rows.forEach(deduplicator::add);
+        lock.writeLock().lock();
+        try {
+            deduplicator.resolve(nameIndex::get);
+            apply(CatalogDelta.of(deduplicator.getInserted(), deduplicator.getUpdated(), List.of()), false);
+            duplicateReport = duplicateReport.plus(deduplicator.report());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Called with the write lock held, after the list and indexes are consistent again.
+    // The snapshot shares every chunk of the list the write did not touch.
+    private void publish() {
+        published = new CatalogSnapshot(published.getVersion() + 1, pokemonList.snapshot());
+    }
+
+    // Names are added to the suggestion index in one batch, which sorts them once
+    private void index(Collection<Pokemon> pokemon) {
+        List<String> names = new ArrayList<>(pokemon.size());
+        for (Pokemon p : pokemon) {
+            nameIndex.add(p);
+            names.add(p.getName());
+        }
+        suggestionIndex.addAll(names);
+        typeIndex.append(pokemon);
+        powerRanking.addAll(pokemon);
+        statIndex.addAll(pokemon);
+        typeStats.addAll(pokemon);
     }
 
+    // Returns a modifiable copy; use getSnapshot() to read the catalog without copying it
     public List<Pokemon> getAllPokemon() {
-        return new ArrayList<>(pokemonList);
+        return new ArrayList<>(published.asList());
     }
 
+    /**
+     * The current catalog as an immutable, versioned view. O(1): the snapshot is
+     * the one published by the last change, not a copy.
+     * @return The current snapshot
+     */
+    public CatalogSnapshot getSnapshot() {
+        return published;
+    }
+
+    // Lock-free: reads the published snapshot with a per-thread random generator
     public Pokemon getRandomPokemon() {
-        if (pokemonList.isEmpty()) return null;
-        return pokemonList.get(random.nextInt(pokemonList.size()));
+        CatalogSnapshot current = published;
+        if (current.isEmpty()) return null;
+        return current.get(ThreadLocalRandom.current().nextInt(current.size()));
+    }
+
+    /**
+     * Random card weighted by power level, in O(1) per draw
+     * @return A card, or null if the catalog is empty
+     */
+    public Pokemon getWeightedRandomPokemon() {
+        return getPowerSampler().draw();
+    }
+
+    /**
+     * Sampler over the current snapshot, weighted by power level. The alias tables are
+     * built once per catalog version and shared by all threads.
+     */
+    public CardSampler getPowerSampler() {
+        CatalogSnapshot current = published;
+        CardSampler sampler = powerSampler;
+        if (sampler == null || sampler.getSnapshot() != current) {
+            sampler = CardSampler.byPowerLevel(current); // Racing threads may both build; either result is valid
+            powerSampler = sampler;
+        }
+        return sampler;
+    }
+
+    /**
+     * Cards whose attack, defense, stamina, weight and height are closest to a card's,
+     * each stat scaled by its spread across the catalog. The stat columns are built once
+     * per catalog version and scanned in parallel. Building them takes a while on a
+     * large catalog, so call this off the FX thread.
+     * @param pokemon Card to compare with; it is not part of the result
+     * @param k Number of cards
+     * @return Up to k cards, most similar first
+     */
+    public List<Pokemon> findSimilar(Pokemon pokemon, int k) {
+        return similarityIndex().nearest(pokemon, k);
+    }
+
+    // Builds the stat columns for the current catalog ahead of the first findSimilar
+    public void prepareSimilarityIndex() {
+        similarityIndex();
+    }
+
+    private SimilarityIndex similarityIndex() {
+        CatalogSnapshot current = published;
+        SimilarityIndex index = similarityIndex;
+        if (index == null || index.getSnapshot() != current) {
+            index = new SimilarityIndex(current); // Racing threads may both build; either result is valid
+            similarityIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Win probability of every card against every other card in the current catalog,
+     * e.g. for planning a tournament. Computed in parallel; see BattleEngine.
+     */
+    public BattleMatrix computeWinMatrix() {
+        return BattleEngine.winMatrix(published.asList());
     }
 
+    // Every card of the current snapshot once, in random order
+    public CardSampler.ShuffleCursor shufflePokemon() {
+        return CardSampler.shuffle(published);
+    }
+
+    // O(1) case-insensitive lookup through the name index
     public Pokemon searchPokemon(String name) {
-        return pokemonList.stream()
-                .filter(pokemon -> pokemon.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        lock.readLock().lock();
+        try {
+            return nameIndex.get(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ranked completions for a partly typed or misspelled name. Safe to call off the FX thread.
+    public List<String> suggestNames(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+
+    /**
+     * Cards matching a type filter, in catalog order, e.g. all of FIRE and FLYING,
+     * any of WATER, or GRASS but none of POISON. Type names are case-insensitive
+     * and an empty collection does not constrain.
+     * @param allOf Types a card must all have
+     * @param anyOf Types a card must have at least one of
+     * @param noneOf Types a card must not have
+     * @return The matching cards
+     */
+    public List<Pokemon> filterByType(Collection<String> allOf, Collection<String> anyOf,
+                                      Collection<String> noneOf) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = typeIndex.query(pokemonList, allOf, anyOf, noneOf);
+            List<Pokemon> result = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                result.add(pokemonList.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Pokemon> getPokemonWithAllTypes(String... types) {
+        return filterByType(List.of(types), List.of(), List.of());
+    }
+
+    public List<Pokemon> getPokemonWithAnyType(String... types) {
+        return filterByType(List.of(), List.of(types), List.of());
+    }
+
+    /**
+     * Strongest cards by power level, read from the maintained ranking
+     * @param k Number of cards
+     * @return Up to k cards, strongest first
+     */
+    public List<Pokemon> getTopByPower(int k) {
+        lock.readLock().lock();
+        try {
+            return powerRanking.top(k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Weakest cards by power level
+     * @param k Number of cards
+     * @return Up to k cards, weakest first
+     */
+    public List<Pokemon> getBottomByPower(int k) {
+        lock.readLock().lock();
+        try {
+            return powerRanking.bottom(k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Strongest team of the catalog under the given constraints; see TeamOptimizer.
+     * The candidates come from the power ranking, already in the order the search needs.
+     * @param constraints Team size, weight limit, required types, time budget, ...
+     * @return The team, or an empty team if none satisfies the constraints
+     */
+    public Team optimizeTeam(TeamConstraints constraints) {
+        List<Pokemon> ranked;
+        lock.readLock().lock();
+        try {
+            ranked = powerRanking.top(powerRanking.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return TeamOptimizer.optimizeRanked(ranked, constraints);
+    }
+
+    /**
+     * Leaderboard position of a card by power level. Cards with equal power share a rank.
+     * @param name Pokemon name, case-insensitive
+     * @return 1 for the strongest card, or -1 if no card has that name
+     */
+    public int getPowerRank(String name) {
+        lock.readLock().lock();
+        try {
+            Pokemon pokemon = nameIndex.get(name);
+            return pokemon == null ? -1 : powerRanking.rankOf(pokemon.calculatePowerLevel());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cards whose stats fall in every range of the query, e.g. attack above 0.8 and
+     * weight under 50kg. Matches are found through sorted stat columns and produced
+     * lazily as the stream is consumed.
+     * @param query Ranges to match
+     * @return Matching cards, in no particular order
+     */
+    public Stream<Pokemon> findByStats(StatQuery query) {
+        lock.readLock().lock();
+        try {
+            return statIndex.query(pokemonList, query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count, min, max, mean and percentiles of a stat for every type group, e.g. the
+     * average attack per primary type. Maintained as cards change, so repeated calls
+     * only re-sort the groups that changed since the last one.
+     * @param grouping Group by primary type, secondary type or type pair
+     * @param stat Stat to summarize
+     * @return A summary per group, ordered by group name
+     */
+    public Map<String, StatSummary> getStatsByType(TypeGrouping grouping, PokemonStat stat) {
+        lock.readLock().lock();
+        try {
+            return typeStats.summarize(grouping, stat);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Summary of a stat for one type group, e.g. the heaviest Water card's weight
+     * @param grouping Group by primary type, secondary type or type pair
+     * @param group Group name as written in the catalog, e.g. "Water" or "Fire-Flying"
+     * @param stat Stat to summarize
+     * @return The summary, or null if no card is in the group
+     */
+    public StatSummary getStatsForType(TypeGrouping grouping, String group, PokemonStat stat) {
+        lock.readLock().lock();
+        try {
+            return typeStats.summarize(grouping, group, stat);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public boolean removePokemon(String name) {
-        return pokemonList.removeIf(pokemon -> pokemon.getName().equalsIgnoreCase(name));
+        return removeAll(List.of(name)).getRemoved() > 0;
+    }
+
+    /**
+     * Remove every card with one of the given names, ignoring case, in a single pass
+     * @param names Names to remove
+     * @return Cards removed, and the names that matched nothing
+     */
+    public BulkResult removeAll(Collection<String> names) {
+        return apply(CatalogDelta.of(List.of(), List.of(), names), true);
+    }
+
+    /**
+     * Append cards in one batch. Cards whose name is already in the catalog, or repeated
+     * within the batch, are resolved by the duplicate policy like rows of a load, so a
+     * colliding card may update the existing one or be dropped instead.
+     * @param pokemon Cards to insert
+     * @return Cards inserted and cards updated
+     */
+    public BulkResult insertAll(Collection<Pokemon> pokemon) {
+        Deduplicator deduplicator = new Deduplicator(duplicatePolicy);
+        pokemon.forEach(deduplicator::add);
+        lock.writeLock().lock();
+        try {
+            deduplicator.resolve(nameIndex::get);
+            return apply(CatalogDelta.of(deduplicator.getInserted(), deduplicator.getUpdated(), List.of()), true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the stats and type of every card with the same name as one of the given
+     * cards, in a single pass. Updated cards keep their instance ID and position.
+     * @param updates New values, matched to cards by name ignoring case
+     * @return Cards updated, and the names that matched nothing
+     */
+    public BulkResult updateAll(Collection<Pokemon> updates) {
+        return apply(CatalogDelta.of(List.of(), updates, List.of()), true);
+    }
+
+    /**
+     * Remove every card matching a predicate in a single pass
+     * @param filter Returns true for cards to remove
+     * @return Number of cards removed
+     */
+    public BulkResult removeIf(Predicate<? super Pokemon> filter) {
+        lock.writeLock().lock();
+        try {
+            List<Pokemon> dropped = new ArrayList<>();
+            pokemonList.removeIf(pokemon -> filter.test(pokemon) && dropped.add(pokemon));
+            if (dropped.isEmpty()) {
+                return BulkResult.NONE;
+            }
+            powerRanking.removeAll(dropped);
+            typeStats.removeAll(dropped);
+            typeIndex.invalidate(); // Positions shift
+            statIndex.removeAll(dropped);
+
+            // A name may still have cards left; the name index must then point at the first of them
+            Map<String, String> affected = new HashMap<>(); // Key -> name as written
+            for (Pokemon pokemon : dropped) {
+                affected.putIfAbsent(NameIndex.key(pokemon.getName()), pokemon.getName());
+            }
+            Map<String, List<Pokemon>> survivors = new HashMap<>();
+            for (Pokemon pokemon : pokemonList) {
+                String key = NameIndex.key(pokemon.getName());
+                if (affected.containsKey(key)) {
+                    survivors.computeIfAbsent(key, k -> new ArrayList<>()).add(pokemon);
+                }
+            }
+            List<String> gone = new ArrayList<>();
+            for (Map.Entry<String, String> entry : affected.entrySet()) {
+                String name = entry.getValue();
+                List<Pokemon> left = survivors.get(entry.getKey());
+                nameIndex.remove(name);
+                if (left == null) {
+                    gone.add(name);
+                } else {
+                    nameIndex.add(left.get(0));
+                }
+                if (mutationLog != null) {
+                    // The log removes by name, so cards left under that name are logged again
+                    mutationLog.logRemove(name);
+                    if (left != null) {
+                        left.forEach(mutationLog::logInsert);
+                    }
+                }
+            }
+            suggestionIndex.removeAll(gone);
+            publish();
+            return new BulkResult(0, 0, dropped.size(), List.of());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply changes detected in a reloaded catalog file. Removed and updated names are
+     * handled in one pass each; updated cards keep their instance ID. Inserted rows whose
+     * name is already in the catalog, e.g. a card added since the file was loaded, are
+     * resolved by the duplicate policy like rows of a load; the rest are appended.
+     * Names removed from the catalog since the file was loaded stay removed.
+     * @param delta Changes between two versions of the file
+     * @return Cards changed, and the names that matched nothing
+     */
+    public BulkResult applyDelta(CatalogDelta delta) {
+        Deduplicator deduplicator = new Deduplicator(duplicatePolicy);
+        delta.getInserted().forEach(deduplicator::add);
+        lock.writeLock().lock();
+        try {
+            deduplicator.resolve(nameIndex::get);
+            List<Pokemon> updated = new ArrayList<>(delta.getUpdated());
+            updated.addAll(deduplicator.getUpdated());
+            return apply(CatalogDelta.of(deduplicator.getInserted(), updated, delta.getRemoved()), false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every batch of changes goes through here: one pass over the list for all removals,
+    // one for all updates, and each index is updated once per batch
+    private BulkResult apply(CatalogDelta delta, boolean logged) {
+        lock.writeLock().lock();
+        try {
+            MutationLog log = logged ? mutationLog : null;
+            List<String> notFound = new ArrayList<>();
+
+            // Unknown names are answered by the index without scanning the list
+            Set<String> removed = new HashSet<>();
+            List<String> removedNames = new ArrayList<>();
+            for (String name : delta.getRemoved()) {
+                if (nameIndex.remove(name) == null) {
+                    notFound.add(name);
+                    continue;
+                }
+                removed.add(NameIndex.key(name));
+                removedNames.add(name);
+                if (log != null) {
+                    log.logRemove(name); // Queued; written by the log's own thread
+                }
+            }
+            suggestionIndex.removeAll(removedNames);
+            Map<String, Pokemon> updated = new HashMap<>();
+            for (Pokemon pokemon : delta.getUpdated()) {
+                if (nameIndex.get(pokemon.getName()) == null) {
+                    notFound.add(pokemon.getName());
+                    continue;
+                }
+                updated.put(NameIndex.key(pokemon.getName()), pokemon);
+                if (log != null) {
+                    log.logUpdate(pokemon);
+                }
+            }
+
+            if (!removed.isEmpty() || !updated.isEmpty()) {
+                typeIndex.invalidate(); // Positions shift or types change
+            }
+            List<Pokemon> dropped = new ArrayList<>();
+            if (!removed.isEmpty()) {
+                pokemonList.removeIf(
+                        pokemon -> removed.contains(NameIndex.key(pokemon.getName())) && dropped.add(pokemon));
+                powerRanking.removeAll(dropped);
+                statIndex.removeAll(dropped);
+                typeStats.removeAll(dropped);
+            }
+            List<Pokemon> replacements = new ArrayList<>(updated.size());
+            if (!updated.isEmpty()) {
+                List<Pokemon> replaced = new ArrayList<>(updated.size());
+                List<String> respelledFrom = new ArrayList<>();
+                List<String> respelledTo = new ArrayList<>();
+                pokemonList.replaceAll(pokemon -> {
+                    Pokemon update = updated.get(NameIndex.key(pokemon.getName()));
+                    if (update == null) {
+                        return pokemon;
+                    }
+                    Pokemon replacement = new Pokemon(pokemon.getInstanceId(), update.getName(),
+                            update.getWeight(), update.getHeight(), update.getAttack(), update.getDefense(),
+                            update.getStamina(), update.getType());
+                    if (nameIndex.get(pokemon.getName()) == pokemon) {
+                        nameIndex.replace(replacement);
+                        if (!pokemon.getName().equals(update.getName())) { // Only the capitalization changed
+                            respelledFrom.add(pokemon.getName());
+                            respelledTo.add(update.getName());
+                        }
+                    }
+                    replaced.add(pokemon);
+                    replacements.add(replacement);
+                    return replacement;
+                });
+                suggestionIndex.removeAll(respelledFrom);
+                suggestionIndex.addAll(respelledTo);
+                powerRanking.removeAll(replaced);
+                powerRanking.addAll(replacements); // Stats may have changed
+                statIndex.removeAll(replaced);
+                statIndex.addAll(replacements);
+                typeStats.removeAll(replaced);
+                typeStats.addAll(replacements);
+            }
+            List<Pokemon> inserted = delta.getInserted();
+            if (!inserted.isEmpty()) {
+                pokemonList.addAll(inserted);
+                index(inserted);
+                if (log != null) {
+                    inserted.forEach(log::logInsert);
+                }
+            }
+
+            if (!dropped.isEmpty() || !replacements.isEmpty() || !inserted.isEmpty()) {
+                publish();
+            }
+            return new BulkResult(inserted.size(), replacements.size(), dropped.size(), notFound);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     public int getPokemonCount() {
-        return pokemonList.size();
+        return published.size();
     }
 }
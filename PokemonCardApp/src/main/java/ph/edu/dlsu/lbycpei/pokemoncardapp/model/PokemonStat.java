@@ -0,0 +1,26 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * PokemonStat - The numeric card fields that can be queried by range
+ */
+public enum PokemonStat {
+    WEIGHT,
+    HEIGHT,
+    ATTACK,
+    DEFENSE,
+    STAMINA;
+
+    /**
+     * @param pokemon A card
+     * @return This stat's value on the card
+     */
+    public double of(AbstractPokemon pokemon) {
+        return switch (this) {
+            case WEIGHT -> pokemon.getWeight();
+            case HEIGHT -> pokemon.getHeight();
+            case ATTACK -> pokemon.getAttack();
+            case DEFENSE -> pokemon.getDefense();
+            case STAMINA -> pokemon.getStamina();
+        };
+    }
+}
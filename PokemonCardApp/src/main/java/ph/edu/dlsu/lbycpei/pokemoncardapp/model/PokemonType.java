@@ -0,0 +1,71 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PokemonType - The known Pokemon types with their card gradients
+ * Cards resolve their type string to these codes once, so drawing a card
+ * does not split, upper-case or switch on strings.
+ */
+public enum PokemonType {
+    WATER("Water", "linear-gradient(to bottom, #6BB6FF, #0066CC)"),
+    FIRE("Fire", "linear-gradient(to bottom, #FF6B6B, #CC0000)"),
+    GRASS("Grass", "linear-gradient(to bottom, #4CAF50, #2E7D32)"),
+    ELECTRIC("Electric", "linear-gradient(to bottom, #FFD700, #FFA500)"),
+    PSYCHIC("Psychic", "linear-gradient(to bottom, #FF69B4, #8B008B)"),
+    ICE("Ice", "linear-gradient(to bottom, #87CEEB, #4169E1)"),
+    DRAGON("Dragon", "linear-gradient(to bottom, #9370DB, #4B0082)"),
+    DARK("Dark", "linear-gradient(to bottom, #696969, #2F2F2F)"),
+    FIGHTING("Fighting", "linear-gradient(to bottom, #CD853F, #8B4513)"),
+    POISON("Poison", "linear-gradient(to bottom, #9932CC, #4B0082)"),
+    GROUND("Ground", "linear-gradient(to bottom, #DEB887, #8B7355)"),
+    FLYING("Flying", "linear-gradient(to bottom, #87CEEB, #6495ED)"),
+    BUG("Bug", "linear-gradient(to bottom, #9ACD32, #556B2F)"),
+    ROCK("Rock", "linear-gradient(to bottom, #A0522D, #654321)"),
+    GHOST("Ghost", "linear-gradient(to bottom, #9370DB, #483D8B)"),
+    STEEL("Steel", "linear-gradient(to bottom, #C0C0C0, #708090)"),
+    FAIRY("Fairy", "linear-gradient(to bottom, #FFB6C1, #FF69B4)"),
+    NORMAL("Normal", "linear-gradient(to bottom, #F5F5DC, #D2B48C)"),
+    // Any type name not listed above
+    UNKNOWN("Unknown", "linear-gradient(to bottom, #F0F0F0, #D0D0D0)");
+
+    // Background used when a card has no second type
+    public static final String DEFAULT_BACKGROUND = UNKNOWN.background;
+
+    private static final Map<String, PokemonType> BY_NAME = new HashMap<>();
+
+    static {
+        for (PokemonType type : values()) {
+            if (type != UNKNOWN) {
+                BY_NAME.put(type.name(), type);
+                BY_NAME.put(type.displayName, type);
+            }
+        }
+    }
+
+    private final String displayName;
+    private final String background;
+
+    PokemonType(String displayName, String background) {
+        this.displayName = displayName;
+        this.background = background;
+    }
+
+    /**
+     * Look up a type by name, ignoring case
+     * @param name Type name, e.g. "Fire" or "FIRE"
+     * @return The type, or UNKNOWN if the name is not a known type
+     */
+    public static PokemonType of(String name) {
+        PokemonType type = BY_NAME.get(name); // Catalog spellings hit without allocating
+        if (type == null) {
+            type = BY_NAME.getOrDefault(name.trim().toUpperCase(Locale.ROOT), UNKNOWN);
+        }
+        return type;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getBackground() { return background; }
+}
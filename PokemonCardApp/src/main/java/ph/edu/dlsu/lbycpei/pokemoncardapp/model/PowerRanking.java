@@ -0,0 +1,152 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PowerRanking - Cards kept ordered by power level, strongest first
+ *
+ * The cards and their power levels are held in parallel arrays sorted by power
+ * (ties by instance ID), so top-K and bottom-K read the ends of the arrays and a
+ * rank is one binary search. Batches are sorted and merged in one pass; a single
+ * removal shifts the tail of the arrays, a large batch compacts them once.
+ */
+final class PowerRanking {
+
+    private static final int SMALL_BATCH = 8;
+
+    private Pokemon[] cards = new Pokemon[16];
+    private double[] powers = new double[16];
+    private int size = 0;
+
+    void addAll(Collection<Pokemon> pokemon) {
+        if (pokemon.isEmpty()) {
+            return;
+        }
+        Pokemon[] added = pokemon.toArray(new Pokemon[0]);
+        double[] addedPowers = new double[added.length];
+        Integer[] order = new Integer[added.length];
+        for (int i = 0; i < added.length; i++) {
+            addedPowers[i] = added[i].calculatePowerLevel();
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compare(addedPowers[a], added[a].getInstanceId(),
+                addedPowers[b], added[b].getInstanceId()));
+
+        int capacity = Math.max(16, (size + added.length) * 3 / 2);
+        Pokemon[] mergedCards = new Pokemon[capacity];
+        double[] mergedPowers = new double[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size || j < added.length) {
+            boolean takeExisting = j == added.length || (i < size && compare(powers[i], cards[i].getInstanceId(),
+                    addedPowers[order[j]], added[order[j]].getInstanceId()) <= 0);
+            if (takeExisting) {
+                mergedCards[k] = cards[i];
+                mergedPowers[k++] = powers[i++];
+            } else {
+                mergedCards[k] = added[order[j]];
+                mergedPowers[k++] = addedPowers[order[j++]];
+            }
+        }
+        cards = mergedCards;
+        powers = mergedPowers;
+        size = k;
+    }
+
+    // Removes this exact card; other cards with the same power are kept. Powers are matched
+    // with Double.compare, like the ordering, so a NaN power is found too.
+    boolean remove(Pokemon pokemon) {
+        double power = pokemon.calculatePowerLevel();
+        for (int i = lowerBound(power, pokemon.getInstanceId());
+             i < size && Double.compare(powers[i], power) == 0; i++) {
+            if (cards[i] == pokemon) {
+                System.arraycopy(cards, i + 1, cards, i, size - i - 1);
+                System.arraycopy(powers, i + 1, powers, i, size - i - 1);
+                cards[--size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // One pass over the ranking: removing a large batch card by card would shift the arrays each time
+    void removeAll(Collection<Pokemon> pokemon) {
+        if (pokemon.size() <= SMALL_BATCH) {
+            pokemon.forEach(this::remove);
+            return;
+        }
+        Set<Pokemon> doomed = Collections.newSetFromMap(new IdentityHashMap<>(pokemon.size() * 2));
+        doomed.addAll(pokemon);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!doomed.contains(cards[i])) {
+                cards[kept] = cards[i];
+                powers[kept++] = powers[i];
+            }
+        }
+        Arrays.fill(cards, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * @param k Number of cards
+     * @return Up to k strongest cards, strongest first
+     */
+    List<Pokemon> top(int k) {
+        int count = Math.max(0, Math.min(k, size));
+        return new ArrayList<>(Arrays.asList(cards).subList(0, count));
+    }
+
+    /**
+     * @param k Number of cards
+     * @return Up to k weakest cards, weakest first
+     */
+    List<Pokemon> bottom(int k) {
+        int count = Math.max(0, Math.min(k, size));
+        List<Pokemon> result = new ArrayList<>(count);
+        for (int i = size - 1; i >= size - count; i--) {
+            result.add(cards[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param power A power level
+     * @return 1 + the number of cards with a strictly higher power, so equal powers share a rank
+     */
+    int rankOf(double power) {
+        return lowerBound(power, Integer.MIN_VALUE) + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Strongest first, then by instance ID
+    private static int compare(double powerA, int idA, double powerB, int idB) {
+        int byPower = Double.compare(powerB, powerA);
+        return byPower != 0 ? byPower : Integer.compare(idA, idB);
+    }
+
+    // First position that does not sort before (power, id)
+    private int lowerBound(double power, int id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(powers[mid], cards[mid].getInstanceId(), power, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
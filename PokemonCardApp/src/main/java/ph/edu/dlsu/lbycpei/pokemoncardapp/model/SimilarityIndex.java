@@ -0,0 +1,228 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * SimilarityIndex - Nearest-neighbour search over the cards' stat vectors
+ *
+ * Each card is the point (attack, defense, stamina, weight, height). Every stat is
+ * divided by its standard deviation across the catalog, so kilograms do not drown
+ * out stats between 0 and 1, and cards are compared by Euclidean distance. Cards
+ * with a NaN or infinite stat are left out of the deviations and never returned.
+ *
+ * The scaled stats are copied into one primitive column per stat and a query scans
+ * them all: each chunk of rows accumulates its distances one column at a time in a
+ * tight loop the JIT can vectorize, keeps its k closest rows in a bounded heap, and
+ * chunks run in parallel on the fork-join pool. Building the columns is split the
+ * same way. An index belongs to one catalog snapshot and is replaced when the
+ * catalog changes.
+ */
+final class SimilarityIndex {
+
+    private static final PokemonStat[] DIMENSIONS = {
+            PokemonStat.ATTACK, PokemonStat.DEFENSE, PokemonStat.STAMINA, PokemonStat.WEIGHT, PokemonStat.HEIGHT
+    };
+    private static final int CHUNK_SIZE = 16_384; // Rows per task; the distance buffer stays in cache
+
+    private final CatalogSnapshot snapshot;
+    private final double[] scales = new double[DIMENSIONS.length];
+    private final double[][] columns = new double[DIMENSIONS.length][];
+
+    SimilarityIndex(CatalogSnapshot snapshot) {
+        this.snapshot = snapshot;
+        Pokemon[] cards = snapshot.asList().toArray(new Pokemon[0]);
+        int size = cards.length;
+        for (int d = 0; d < DIMENSIONS.length; d++) {
+            columns[d] = new double[size];
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            for (int i = c * CHUNK_SIZE, end = Math.min(size, i + CHUNK_SIZE); i < end; i++) {
+                for (int d = 0; d < DIMENSIONS.length; d++) {
+                    columns[d][i] = DIMENSIONS[d].of(cards[i]);
+                }
+            }
+        });
+        IntStream.range(0, DIMENSIONS.length).parallel().forEach(d -> {
+            double deviation = standardDeviation(columns[d]);
+            scales[d] = deviation > 0 ? 1 / deviation : 1; // A constant stat adds nothing either way
+            double[] column = columns[d];
+            for (int i = 0; i < size; i++) {
+                column[i] *= scales[d];
+            }
+        });
+    }
+
+    CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @param target Card to compare with; the card itself is left out of the results
+     * @param k Number of cards
+     * @return Up to k cards, closest first (ties in catalog order); none if the target
+     *         has a NaN or infinite stat
+     */
+    List<Pokemon> nearest(Pokemon target, int k) {
+        int size = snapshot.size();
+        if (k <= 0 || size == 0) {
+            return List.of();
+        }
+        double[] point = new double[DIMENSIONS.length];
+        for (int d = 0; d < DIMENSIONS.length; d++) {
+            point[d] = DIMENSIONS[d].of(target) * scales[d];
+        }
+
+        // One spare candidate, for the target's own row
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Closest closest = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> scan(point, c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE), k + 1))
+                .reduce(Closest::merge)
+                .orElseThrow();
+
+        List<Pokemon> result = new ArrayList<>(k);
+        for (int row : closest.sortedRows()) {
+            Pokemon pokemon = snapshot.get(row);
+            if (!isSameCard(pokemon, target) && result.size() < k) {
+                result.add(pokemon);
+            }
+        }
+        return result;
+    }
+
+    private Closest scan(double[] point, int from, int to, int k) {
+        int length = to - from;
+        double[] distances = new double[length];
+        for (int d = 0; d < DIMENSIONS.length; d++) {
+            double[] column = columns[d];
+            double coordinate = point[d];
+            for (int i = 0; i < length; i++) {
+                double delta = column[from + i] - coordinate;
+                distances[i] += delta * delta;
+            }
+        }
+        Closest closest = new Closest(k);
+        for (int i = 0; i < length; i++) {
+            // Most rows fail the bound once the heap is full; rows with a non-finite stat always fail
+            if (distances[i] <= closest.bound && Double.isFinite(distances[i])) {
+                closest.offer(distances[i], from + i);
+            }
+        }
+        return closest;
+    }
+
+    // An updated card is a new object with the same instance ID and name
+    private static boolean isSameCard(Pokemon a, Pokemon b) {
+        return a == b || (a.getInstanceId() == b.getInstanceId() && a.getName().equals(b.getName()));
+    }
+
+    // Over finite values only, so one NaN stat does not make every distance NaN
+    private static double standardDeviation(double[] values) {
+        double mean = 0;
+        double squares = 0;
+        int count = 0;
+        for (double value : values) { // Welford's update, stable for large catalogs
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            squares += delta * (value - mean);
+        }
+        return count > 0 ? Math.sqrt(squares / count) : 0;
+    }
+
+    /**
+     * The k rows with the smallest distances seen so far, as a max-heap on (distance, row)
+     */
+    private static final class Closest {
+        private final double[] distances;
+        private final int[] rows;
+        private int size = 0;
+        double bound = Double.POSITIVE_INFINITY; // Farthest kept distance once k rows are kept
+
+        Closest(int k) {
+            distances = new double[k];
+            rows = new int[k];
+        }
+
+        void offer(double distance, int row) {
+            if (size < rows.length) {
+                distances[size] = distance;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (isCloser(distance, row, distances[0], rows[0])) {
+                distances[0] = distance;
+                rows[0] = row;
+                siftDown(0);
+            }
+            if (size == rows.length) {
+                bound = distances[0];
+            }
+        }
+
+        Closest merge(Closest other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.distances[i], other.rows[i]);
+            }
+            return this;
+        }
+
+        int[] sortedRows() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> isCloser(distances[a], rows[a], distances[b], rows[b]) ? -1 : 1);
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = rows[order[i]];
+            }
+            return sorted;
+        }
+
+        private static boolean isCloser(double distance, int row, double otherDistance, int otherRow) {
+            return distance < otherDistance || (distance == otherDistance && row < otherRow);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!isCloser(distances[parent], rows[parent], distances[i], rows[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int farthest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (isCloser(distances[farthest], rows[farthest], distances[child], rows[child])) {
+                        farthest = child;
+                    }
+                }
+                if (farthest == i) {
+                    return;
+                }
+                swap(i, farthest);
+                i = farthest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+}
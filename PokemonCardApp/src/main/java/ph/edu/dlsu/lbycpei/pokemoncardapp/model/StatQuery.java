@@ -0,0 +1,100 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * StatQuery - A conjunction of ranges over card stats, e.g.
+ * attack > 0.8 and weight < 50 and height between 1 and 2:
+ *
+ *   new StatQuery()
+ *       .greaterThan(PokemonStat.ATTACK, 0.8)
+ *       .lessThan(PokemonStat.WEIGHT, 50)
+ *       .between(PokemonStat.HEIGHT, 1, 2)
+ *
+ * Weight is in kilograms and height in meters, as stored on the card.
+ * Constraining a stat again narrows it further.
+ */
+public final class StatQuery {
+
+    private static final int STATS = PokemonStat.values().length;
+
+    private final double[] min = new double[STATS];
+    private final double[] max = new double[STATS];
+    private final boolean[] minInclusive = new boolean[STATS];
+    private final boolean[] maxInclusive = new boolean[STATS];
+    private final boolean[] constrained = new boolean[STATS];
+
+    public StatQuery() {
+        for (int i = 0; i < STATS; i++) {
+            min[i] = Double.NEGATIVE_INFINITY;
+            max[i] = Double.POSITIVE_INFINITY;
+            minInclusive[i] = true;
+            maxInclusive[i] = true;
+        }
+    }
+
+    public StatQuery greaterThan(PokemonStat stat, double value) {
+        return lower(stat, value, false);
+    }
+
+    public StatQuery atLeast(PokemonStat stat, double value) {
+        return lower(stat, value, true);
+    }
+
+    public StatQuery lessThan(PokemonStat stat, double value) {
+        return upper(stat, value, false);
+    }
+
+    public StatQuery atMost(PokemonStat stat, double value) {
+        return upper(stat, value, true);
+    }
+
+    // Both ends inclusive
+    public StatQuery between(PokemonStat stat, double from, double to) {
+        return atLeast(stat, from).atMost(stat, to);
+    }
+
+    /**
+     * @param pokemon A card
+     * @return true if the card satisfies every range
+     */
+    public boolean matches(AbstractPokemon pokemon) {
+        for (PokemonStat stat : PokemonStat.values()) {
+            if (constrained[stat.ordinal()] && !inRange(stat, stat.of(pokemon))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isConstrained(PokemonStat stat) { return constrained[stat.ordinal()]; }
+    double getMin(PokemonStat stat) { return min[stat.ordinal()]; }
+    double getMax(PokemonStat stat) { return max[stat.ordinal()]; }
+    boolean isMinInclusive(PokemonStat stat) { return minInclusive[stat.ordinal()]; }
+    boolean isMaxInclusive(PokemonStat stat) { return maxInclusive[stat.ordinal()]; }
+
+    private boolean inRange(PokemonStat stat, double value) {
+        int i = stat.ordinal();
+        return (minInclusive[i] ? value >= min[i] : value > min[i])
+                && (maxInclusive[i] ? value <= max[i] : value < max[i]);
+    }
+
+    // Keeps the tighter of the existing and the new bound
+    private StatQuery lower(PokemonStat stat, double value, boolean inclusive) {
+        int i = stat.ordinal();
+        if (value > min[i] || (value == min[i] && !inclusive)) {
+            min[i] = value;
+            minInclusive[i] = inclusive;
+        }
+        constrained[i] = true;
+        return this;
+    }
+
+    private StatQuery upper(PokemonStat stat, double value, boolean inclusive) {
+        int i = stat.ordinal();
+        if (value < max[i] || (value == max[i] && !inclusive)) {
+            max[i] = value;
+            maxInclusive[i] = inclusive;
+        }
+        constrained[i] = true;
+        return this;
+    }
+}
@@ -0,0 +1,259 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * StatRangeIndex - One sorted column per stat for range queries
+ *
+ * A column holds the cards sorted by one stat next to the sorted values, so the
+ * cards within a range are found with two binary searches. A query walks the
+ * narrowest of its ranges and checks the other ranges on each card, which keeps
+ * selective queries proportional to the number of matches rather than the catalog.
+ *
+ * Columns are built on first use and then kept up to date. Changes are held as
+ * pending added and removed cards next to the sorted arrays: a query skips the
+ * removed cards and checks the added ones. Once enough changes pile up, the next
+ * query merges them into new sorted arrays in one linear pass, like
+ * PowerRanking.addAll, instead of sorting the catalog again. Arrays and pending
+ * sets are replaced, never modified, so a stream already returned keeps reading
+ * the version it started with.
+ */
+final class StatRangeIndex {
+
+    private static final int MIN_FOLD = 1024; // Pending changes tolerated before merging, at least
+    private static final int FOLD_DIVISOR = 1024; // ... or this fraction of the column
+
+    private static final Pokemon[] NO_CARDS = new Pokemon[0];
+
+    private final State[] states = new State[PokemonStat.values().length]; // null until first queried
+
+    // Cards appended to the catalog
+    synchronized void addAll(Collection<Pokemon> pokemon) {
+        if (pokemon.isEmpty()) {
+            return;
+        }
+        for (State state : states) {
+            if (state != null) {
+                state.add(pokemon);
+            }
+        }
+    }
+
+    // Cards removed from the catalog; an updated card is removed and its replacement added
+    synchronized void removeAll(Collection<Pokemon> pokemon) {
+        if (pokemon.isEmpty()) {
+            return;
+        }
+        for (State state : states) {
+            if (state != null) {
+                state.remove(pokemon);
+            }
+        }
+    }
+
+    /**
+     * Cards matching every range of the query, produced as the stream is consumed
+     * @param list The current catalog, used to build missing columns
+     * @param query Ranges to match
+     * @return Matching cards: those of the sorted column in the order of the stat used to
+     *         drive the scan, then matches among cards added since the column was last merged
+     */
+    Stream<Pokemon> query(List<Pokemon> list, StatQuery query) {
+        View driver = null;
+        int from = 0;
+        int to = 0;
+        for (PokemonStat stat : PokemonStat.values()) {
+            if (!query.isConstrained(stat)) {
+                continue;
+            }
+            View view = view(list, stat);
+            Column column = view.column;
+            int low = query.isMinInclusive(stat)
+                    ? column.lowerBound(query.getMin(stat)) : column.upperBound(query.getMin(stat));
+            int high = query.isMaxInclusive(stat)
+                    ? column.upperBound(query.getMax(stat)) : column.lowerBound(query.getMax(stat));
+            high = Math.max(low, high);
+            if (driver == null || high - low < to - from) {
+                driver = view;
+                from = low;
+                to = high;
+            }
+        }
+        if (driver == null) {
+            return List.copyOf(list).stream(); // No ranges: every card matches
+        }
+
+        Pokemon[] cards = driver.column.cards;
+        Set<Pokemon> removed = driver.removed;
+        Stream<Pokemon> matches = IntStream.range(from, to).mapToObj(i -> cards[i]);
+        if (!removed.isEmpty()) {
+            matches = matches.filter(p -> !removed.contains(p));
+        }
+        matches = matches.filter(query::matches);
+        if (driver.added.length > 0) {
+            matches = Stream.concat(matches, Arrays.stream(driver.added).filter(query::matches));
+        }
+        return matches;
+    }
+
+    // Synchronized because concurrent readers may build or merge the same column
+    private synchronized View view(List<Pokemon> list, PokemonStat stat) {
+        State state = states[stat.ordinal()];
+        if (state == null) {
+            state = new State(new Column(list, stat));
+            states[stat.ordinal()] = state;
+        } else if (state.pending() > Math.max(MIN_FOLD, state.column.cards.length / FOLD_DIVISOR)) {
+            state.fold(stat);
+        }
+        return new View(state.column, state.added, state.removed);
+    }
+
+    private record View(Column column, Pokemon[] added, Set<Pokemon> removed) { }
+
+    /**
+     * A column and the changes not merged into it yet
+     */
+    private static final class State {
+        Column column;
+        Pokemon[] added = NO_CARDS; // Cards not in the column yet
+        Set<Pokemon> removed = Set.of(); // Cards still in the column but no longer in the catalog
+
+        State(Column column) {
+            this.column = column;
+        }
+
+        int pending() {
+            return added.length + removed.size();
+        }
+
+        void add(Collection<Pokemon> pokemon) {
+            Pokemon[] grown = Arrays.copyOf(added, added.length + pokemon.size());
+            int count = added.length;
+            for (Pokemon p : pokemon) {
+                grown[count++] = p;
+            }
+            added = grown;
+        }
+
+        // A card added since the last merge is dropped from added; any other is marked removed
+        void remove(Collection<Pokemon> pokemon) {
+            Set<Pokemon> gone = identitySet(pokemon);
+            int kept = 0;
+            Pokemon[] stillAdded = new Pokemon[added.length];
+            for (Pokemon p : added) {
+                if (gone.remove(p)) {
+                    continue;
+                }
+                stillAdded[kept++] = p;
+            }
+            if (kept < added.length) {
+                added = Arrays.copyOf(stillAdded, kept);
+            }
+            if (!gone.isEmpty()) {
+                gone.addAll(removed);
+                removed = Collections.unmodifiableSet(gone);
+            }
+        }
+
+        void fold(PokemonStat stat) {
+            column = column.merge(stat, added, removed);
+            added = NO_CARDS;
+            removed = Set.of();
+        }
+    }
+
+    private static Set<Pokemon> identitySet(Collection<Pokemon> pokemon) {
+        Set<Pokemon> set = Collections.newSetFromMap(new IdentityHashMap<>(pokemon.size() * 2));
+        set.addAll(pokemon);
+        return set;
+    }
+
+    /**
+     * Cards sorted by one stat, with the sorted values alongside
+     */
+    private static final class Column {
+        final Pokemon[] cards;
+        final double[] values;
+
+        Column(List<Pokemon> list, PokemonStat stat) {
+            cards = list.toArray(new Pokemon[0]);
+            Arrays.parallelSort(cards, Comparator.comparingDouble(stat::of));
+            values = new double[cards.length];
+            for (int i = 0; i < cards.length; i++) {
+                values[i] = stat.of(cards[i]);
+            }
+        }
+
+        private Column(Pokemon[] cards, double[] values) {
+            this.cards = cards;
+            this.values = values;
+        }
+
+        // Drops the removed cards and merges in the added ones, sorted, in one pass
+        Column merge(PokemonStat stat, Pokemon[] added, Set<Pokemon> removed) {
+            Pokemon[] sortedAdded = added.clone();
+            Arrays.sort(sortedAdded, Comparator.comparingDouble(stat::of));
+
+            int capacity = cards.length - removed.size() + sortedAdded.length;
+            Pokemon[] mergedCards = new Pokemon[capacity];
+            double[] mergedValues = new double[capacity];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < cards.length || j < sortedAdded.length) {
+                if (i < cards.length && removed.contains(cards[i])) {
+                    i++;
+                    continue;
+                }
+                boolean takeExisting = j == sortedAdded.length
+                        || (i < cards.length && Double.compare(values[i], stat.of(sortedAdded[j])) <= 0);
+                if (takeExisting) {
+                    mergedCards[k] = cards[i];
+                    mergedValues[k++] = values[i++];
+                } else {
+                    mergedCards[k] = sortedAdded[j];
+                    mergedValues[k++] = stat.of(sortedAdded[j++]);
+                }
+            }
+            return new Column(mergedCards, mergedValues);
+        }
+
+        // First position whose value is >= the given value
+        int lowerBound(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First position whose value is > the given value
+        int upperBound(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
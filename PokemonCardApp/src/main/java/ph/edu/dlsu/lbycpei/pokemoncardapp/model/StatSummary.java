@@ -0,0 +1,50 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * StatSummary - Count, extremes, mean and percentiles of one stat over a group of cards
+ * Backed by the group's values in ascending order, so every figure is read directly.
+ * Summaries are immutable; a later change to the catalog produces a new one.
+ */
+public final class StatSummary {
+
+    private final double[] sorted; // Ascending; only the first count entries are used
+    private final int count;
+    private final double sum;
+
+    StatSummary(double[] sorted, int count, double sum) {
+        this.sorted = sorted;
+        this.count = count;
+        this.sum = sum;
+    }
+
+    public int getCount() { return count; }
+    public double getSum() { return sum; }
+
+    // NaN for an empty group
+    public double getMin() { return count == 0 ? Double.NaN : sorted[0]; }
+    public double getMax() { return count == 0 ? Double.NaN : sorted[count - 1]; }
+    public double getMean() { return count == 0 ? Double.NaN : sum / count; }
+    public double getMedian() { return getPercentile(50); }
+
+    /**
+     * Nearest-rank percentile: the smallest value with at least p percent of the group at or below it
+     * @param percentile From 0 to 100
+     * @return The value, or NaN for an empty group
+     */
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d, min=%.2f, mean=%.2f, median=%.2f, max=%.2f",
+                count, getMin(), getMean(), getMedian(), getMax());
+    }
+}
@@ -0,0 +1,45 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Team - Cards picked by TeamOptimizer, strongest first
+ */
+public final class Team {
+
+    private final List<Pokemon> members;
+    private final double totalPower;
+    private final boolean optimal;
+
+    Team(List<Pokemon> members, double totalPower, boolean optimal) {
+        this.members = Collections.unmodifiableList(members);
+        this.totalPower = totalPower;
+        this.optimal = optimal;
+    }
+
+    // Empty when no team satisfies the constraints, or none was found within the time budget
+    public List<Pokemon> getMembers() { return members; }
+    public boolean isEmpty() { return members.isEmpty(); }
+    public double getTotalPower() { return totalPower; }
+
+    public double getTotalWeight() {
+        double weight = 0;
+        for (Pokemon pokemon : members) {
+            weight += pokemon.getWeight();
+        }
+        return weight;
+    }
+
+    /**
+     * @return true if the search finished, so no better team exists; false if the
+     *         time budget ran out first and this is the best team found until then
+     */
+    public boolean isOptimal() { return optimal; }
+
+    @Override
+    public String toString() {
+        return String.format("%d cards, power %.1f, weight %.1fkg%s",
+                members.size(), totalPower, getTotalWeight(), optimal ? "" : " (best found in time)");
+    }
+}
@@ -0,0 +1,61 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.time.Duration;
+
+/**
+ * TeamConstraints - What a team picked by TeamOptimizer must satisfy, e.g.
+ * six cards of at most 300kg together, covering Water and Fire, no type twice:
+ *
+ *   new TeamConstraints(6)
+ *       .maxTotalWeight(300)
+ *       .requireTypes(PokemonType.WATER, PokemonType.FIRE)
+ *       .distinctTypes()
+ *       .timeBudget(Duration.ofSeconds(2))
+ */
+public final class TeamConstraints {
+
+    private final int teamSize;
+    private double maxTotalWeight = Double.POSITIVE_INFINITY;
+    private int requiredTypes = 0; // Bit per PokemonType ordinal
+    private boolean distinctTypes = false;
+    private Duration timeBudget = null; // null: search until the best team is proven
+
+    public TeamConstraints(int teamSize) {
+        if (teamSize <= 0) {
+            throw new IllegalArgumentException("Team size must be positive: " + teamSize);
+        }
+        this.teamSize = teamSize;
+    }
+
+    // Total weight of the team in kilograms, inclusive
+    public TeamConstraints maxTotalWeight(double kilograms) {
+        maxTotalWeight = Math.min(maxTotalWeight, kilograms);
+        return this;
+    }
+
+    // Every one of these types must be a type of at least one card on the team
+    public TeamConstraints requireTypes(PokemonType... types) {
+        for (PokemonType type : types) {
+            requiredTypes |= 1 << type.ordinal();
+        }
+        return this;
+    }
+
+    // No two cards may share a type, primary or secondary
+    public TeamConstraints distinctTypes() {
+        distinctTypes = true;
+        return this;
+    }
+
+    // Stop after this long and return the best team found so far
+    public TeamConstraints timeBudget(Duration budget) {
+        timeBudget = budget;
+        return this;
+    }
+
+    int getTeamSize() { return teamSize; }
+    double getMaxTotalWeight() { return maxTotalWeight; }
+    int getRequiredTypes() { return requiredTypes; }
+    boolean isDistinctTypes() { return distinctTypes; }
+    Duration getTimeBudget() { return timeBudget; }
+}
@@ -0,0 +1,274 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * TeamOptimizer - Picks the team with the highest total power level under TeamConstraints
+ *
+ * Candidates are first thinned without losing the optimum: cards with the same set of
+ * types are interchangeable for every constraint, so a card is dropped when at least
+ * team-size cards of its types are both stronger and no heavier. This leaves a few
+ * cards per type combination however large the catalog is.
+ *
+ * The rest is a depth-first branch-and-bound over the candidates in descending power
+ * order. The best possible total of a partial team is its power plus the next
+ * candidates' powers, read from prefix sums, and since that bound only falls as the
+ * search moves down the order, a branch that cannot beat the best team ends its whole
+ * loop. Branches are also cut when the remaining weight allowance or the remaining
+ * candidates' types can no longer satisfy the constraints.
+ *
+ * Before the search starts, a greedy pass takes the strongest cards that still fit and
+ * seeds the best team, so pruning starts from a real bound and a search cut short by
+ * the time budget still returns a team. The top levels of the search are fork-join
+ * tasks, so idle workers steal subtrees, and all workers prune against the best team
+ * found by any of them. Cards with a NaN or infinite power level, or a NaN weight,
+ * are never picked.
+ */
+public final class TeamOptimizer {
+
+    private static final int PARALLEL_DEPTH = 2; // Levels of the search split into tasks
+    private static final int DEADLINE_CHECK_INTERVAL = 4_096; // Nodes between clock reads
+
+    private final TeamConstraints constraints;
+    private final int teamSize;
+    private final Pokemon[] cards; // Descending power
+    private final double[] powers;
+    private final double[] weights;
+    private final int[] typeMasks;
+    private final double[] powerPrefix; // powerPrefix[i] = sum of powers[0, i)
+    private final double[] minWeightFrom; // Lightest card at or after i
+    private final int[] typesFrom; // Union of types at or after i
+    private final long deadline;
+
+    private volatile double bestPower = Double.NEGATIVE_INFINITY;
+    private int[] bestTeam; // Guarded by this
+    private volatile boolean timedOut = false;
+
+    private TeamOptimizer(List<Pokemon> ranked, TeamConstraints constraints, long started) {
+        this.constraints = constraints;
+        this.teamSize = constraints.getTeamSize();
+        this.cards = ranked.toArray(new Pokemon[0]);
+        int size = cards.length;
+        powers = new double[size];
+        weights = new double[size];
+        typeMasks = new int[size];
+        powerPrefix = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            powers[i] = cards[i].calculatePowerLevel();
+            weights[i] = cards[i].getWeight();
+            typeMasks[i] = typeMask(cards[i]);
+            powerPrefix[i + 1] = powerPrefix[i] + powers[i];
+        }
+        minWeightFrom = new double[size + 1];
+        typesFrom = new int[size + 1];
+        minWeightFrom[size] = Double.POSITIVE_INFINITY;
+        for (int i = size - 1; i >= 0; i--) {
+            minWeightFrom[i] = Math.min(weights[i], minWeightFrom[i + 1]);
+            typesFrom[i] = typesFrom[i + 1] | typeMasks[i];
+        }
+        deadline = constraints.getTimeBudget() == null ? Long.MAX_VALUE
+                : started + constraints.getTimeBudget().toNanos();
+    }
+
+    /**
+     * @param candidates Cards to pick from, in any order
+     * @param constraints What the team must satisfy
+     * @return The strongest team, or an empty team if none satisfies the constraints
+     */
+    public static Team optimize(List<Pokemon> candidates, TeamConstraints constraints) {
+        List<Pokemon> ranked = new ArrayList<>(candidates);
+        ranked.sort(Comparator.comparingDouble(Pokemon::calculatePowerLevel).reversed());
+        return optimizeRanked(ranked, constraints);
+    }
+
+    // Candidates already in descending power order, e.g. from the power ranking.
+    // The time budget counts from here, so it includes thinning the candidates.
+    static Team optimizeRanked(List<Pokemon> ranked, TeamConstraints constraints) {
+        long started = System.nanoTime();
+        TeamOptimizer optimizer = new TeamOptimizer(reduce(ranked, constraints), constraints, started);
+        optimizer.seedGreedily();
+        ForkJoinPool.commonPool().invoke(optimizer.new Search(new int[0], 0, 0, 0, 0));
+        return optimizer.result();
+    }
+
+    // Drops cards that team-size stronger, no heavier cards of the same types make redundant
+    private static List<Pokemon> reduce(List<Pokemon> ranked, TeamConstraints constraints) {
+        int teamSize = constraints.getTeamSize();
+        boolean weightMatters = constraints.getMaxTotalWeight() != Double.POSITIVE_INFINITY;
+        Map<Integer, PriorityQueue<Double>> lightestByTypes = new HashMap<>(); // Heaviest of the lightest on top
+        List<Pokemon> kept = new ArrayList<>();
+        for (Pokemon pokemon : ranked) {
+            if (!Double.isFinite(pokemon.calculatePowerLevel()) || Double.isNaN(pokemon.getWeight())) {
+                continue; // Would break the descending order and the bounds
+            }
+            if (pokemon.getWeight() > constraints.getMaxTotalWeight()) {
+                continue;
+            }
+            double weight = weightMatters ? pokemon.getWeight() : 0;
+            PriorityQueue<Double> lightest = lightestByTypes.computeIfAbsent(typeMask(pokemon),
+                    t -> new PriorityQueue<>(Comparator.reverseOrder()));
+            if (lightest.size() == teamSize && lightest.peek() <= weight) {
+                continue; // Dominated by team-size earlier cards
+            }
+            kept.add(pokemon);
+            lightest.add(weight);
+            if (lightest.size() > teamSize) {
+                lightest.poll();
+            }
+        }
+        return kept;
+    }
+
+    private static int typeMask(Pokemon pokemon) {
+        int mask = 1 << pokemon.getPrimaryType().ordinal();
+        if (pokemon.hasSecondaryType()) {
+            mask |= 1 << pokemon.getSecondaryType().ordinal();
+        }
+        return mask;
+    }
+
+    // The strongest card that keeps the constraints satisfiable, slot by slot; may find no team
+    private void seedGreedily() {
+        int[] team = new int[teamSize];
+        double power = 0;
+        double weight = 0;
+        int types = 0;
+        int depth = 0;
+        for (int i = 0; i < cards.length && depth < teamSize; i++) {
+            if (cards.length - i >= teamSize - depth && fits(i, teamSize - depth, weight, types)) {
+                team[depth++] = i;
+                power += powers[i];
+                weight += weights[i];
+                types |= typeMasks[i];
+            }
+        }
+        if (depth == teamSize && (constraints.getRequiredTypes() & ~types) == 0) {
+            offer(team, power);
+        }
+    }
+
+    // Whether adding card i leaves the constraints satisfiable by the cards after it
+    private boolean fits(int i, int remaining, double weight, int types) {
+        if (constraints.isDistinctTypes() && (types & typeMasks[i]) != 0) {
+            return false;
+        }
+        double newWeight = weight + weights[i];
+        int left = remaining - 1;
+        if (newWeight + (left > 0 ? left * minWeightFrom[i + 1] : 0) > constraints.getMaxTotalWeight()) {
+            return false;
+        }
+        int uncovered = constraints.getRequiredTypes() & ~(types | typeMasks[i]);
+        return (uncovered & ~typesFrom[i + 1]) == 0 && Integer.bitCount(uncovered) <= 2 * left;
+    }
+
+    private synchronized void offer(int[] team, double power) {
+        if (power > bestPower) {
+            bestPower = power;
+            bestTeam = team.clone();
+        }
+    }
+
+    private synchronized Team result() {
+        if (bestTeam == null) {
+            return new Team(List.of(), 0, !timedOut);
+        }
+        List<Pokemon> members = new ArrayList<>(teamSize);
+        for (int i : bestTeam) {
+            members.add(cards[i]);
+        }
+        return new Team(members, bestPower, !timedOut);
+    }
+
+    /**
+     * The subtree of teams that extend a partial team with cards from start onward
+     */
+    private final class Search extends RecursiveAction {
+        private static final long serialVersionUID = 1L; // ForkJoinTask is Serializable; tasks are never serialized
+
+        private final int[] team;
+        private final int start;
+        private final double power;
+        private final double weight;
+        private final int types;
+        private int untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+
+        Search(int[] team, int start, double power, double weight, int types) {
+            this.team = team;
+            this.start = start;
+            this.power = power;
+            this.weight = weight;
+            this.types = types;
+        }
+
+        @Override
+        protected void compute() {
+            if (System.nanoTime() > deadline) {
+                timedOut = true;
+            }
+            if (timedOut) {
+                return;
+            }
+            if (team.length >= PARALLEL_DEPTH || team.length == teamSize) {
+                int[] full = new int[teamSize];
+                System.arraycopy(team, 0, full, 0, team.length);
+                search(full, team.length, start, power, weight, types);
+                return;
+            }
+            List<Search> branches = new ArrayList<>();
+            int remaining = teamSize - team.length;
+            for (int i = start; i <= cards.length - remaining; i++) {
+                if (!isWorthExploring(i, remaining, power)) {
+                    break;
+                }
+                if (fits(i, remaining, weight, types)) {
+                    int[] extended = new int[team.length + 1];
+                    System.arraycopy(team, 0, extended, 0, team.length);
+                    extended[team.length] = i;
+                    branches.add(new Search(extended, i + 1, power + powers[i], weight + weights[i],
+                            types | typeMasks[i]));
+                }
+            }
+            invokeAll(branches);
+        }
+
+        private void search(int[] team, int depth, int start, double power, double weight, int types) {
+            if (depth == teamSize) {
+                if ((constraints.getRequiredTypes() & ~types) == 0) {
+                    offer(team, power);
+                }
+                return;
+            }
+            if (--untilDeadlineCheck == 0) {
+                untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                }
+            }
+            if (timedOut) {
+                return;
+            }
+            int remaining = teamSize - depth;
+            for (int i = start; i <= cards.length - remaining; i++) {
+                if (!isWorthExploring(i, remaining, power)) {
+                    return; // Later candidates are weaker, so their bounds are no higher
+                }
+                if (fits(i, remaining, weight, types)) {
+                    team[depth] = i;
+                    search(team, depth + 1, i + 1, power + powers[i], weight + weights[i], types | typeMasks[i]);
+                }
+            }
+        }
+
+        // Best case: the next candidates from i fill every remaining slot
+        private boolean isWorthExploring(int i, int remaining, double power) {
+            return power + powerPrefix[i + remaining] - powerPrefix[i] > bestPower;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TypeAggregates - Per-type statistics of every stat, kept up to date as cards change
+ *
+ * For each grouping, group and stat the values are held in ascending order, so a
+ * summary is read without scanning the catalog. Added and removed cards only append
+ * their values to pending buffers; a column folds its buffers in (sort the batch,
+ * then one merge pass) the next time it is summarized, so a single change costs the
+ * size of the groups it touched, not the catalog.
+ *
+ * Large batches, such as loading a catalog, are split into fork-join tasks that
+ * bucket the values by group in parallel, and stale columns are folded in parallel.
+ */
+final class TypeAggregates {
+
+    private static final int PARALLEL_THRESHOLD = 8_192; // Cards per fork-join task
+    private static final PokemonStat[] STATS = PokemonStat.values();
+
+    private final Map<TypeGrouping, Map<String, StatColumn[]>> groups = new EnumMap<>(TypeGrouping.class);
+
+    TypeAggregates() {
+        for (TypeGrouping grouping : TypeGrouping.values()) {
+            groups.put(grouping, new HashMap<>());
+        }
+    }
+
+    synchronized void addAll(Collection<Pokemon> pokemon) {
+        update(pokemon, true);
+    }
+
+    // The cards must have been added before
+    synchronized void removeAll(Collection<Pokemon> pokemon) {
+        update(pokemon, false);
+    }
+
+    /**
+     * @param grouping How cards are grouped
+     * @param stat Stat to summarize
+     * @return A summary per non-empty group, ordered by group name
+     */
+    synchronized Map<String, StatSummary> summarize(TypeGrouping grouping, PokemonStat stat) {
+        List<StatColumn> stale = new ArrayList<>();
+        int pending = 0;
+        for (Iterator<StatColumn[]> it = groups.get(grouping).values().iterator(); it.hasNext(); ) {
+            StatColumn column = it.next()[stat.ordinal()];
+            if (column.count() == 0) {
+                it.remove(); // Every card is in every stat column, so the whole group is empty
+            } else if (column.summary == null) {
+                stale.add(column);
+                pending += column.added.size + column.removed.size;
+            }
+        }
+        if (pending >= PARALLEL_THRESHOLD && stale.size() > 1) {
+            stale.parallelStream().forEach(StatColumn::summary);
+        }
+
+        Map<String, StatSummary> result = new TreeMap<>();
+        groups.get(grouping).forEach((group, columns) -> result.put(group, columns[stat.ordinal()].summary()));
+        return result;
+    }
+
+    /**
+     * @return Summary of one group, or null if no card is in it
+     */
+    synchronized StatSummary summarize(TypeGrouping grouping, String group, PokemonStat stat) {
+        StatColumn[] columns = groups.get(grouping).get(group);
+        if (columns == null || columns[stat.ordinal()].count() == 0) {
+            return null;
+        }
+        return columns[stat.ordinal()].summary();
+    }
+
+    private void update(Collection<Pokemon> pokemon, boolean add) {
+        if (pokemon.isEmpty()) {
+            return;
+        }
+        Pokemon[] cards = pokemon.toArray(new Pokemon[0]);
+        Bucketing task = new Bucketing(cards, 0, cards.length);
+        Map<TypeGrouping, Map<String, DoubleList[]>> buckets = cards.length < PARALLEL_THRESHOLD
+                ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+
+        buckets.forEach((grouping, byGroup) -> byGroup.forEach((group, values) -> {
+            StatColumn[] columns = groups.get(grouping).computeIfAbsent(group, g -> newColumns());
+            for (int s = 0; s < STATS.length; s++) {
+                (add ? columns[s].added : columns[s].removed).addAll(values[s]);
+                columns[s].summary = null;
+            }
+        }));
+    }
+
+    private static StatColumn[] newColumns() {
+        StatColumn[] columns = new StatColumn[STATS.length];
+        for (int s = 0; s < STATS.length; s++) {
+            columns[s] = new StatColumn();
+        }
+        return columns;
+    }
+
+    /**
+     * Buckets a range of cards' stat values by group, splitting large ranges in half
+     */
+    private static final class Bucketing extends RecursiveTask<Map<TypeGrouping, Map<String, DoubleList[]>>> {
+        private static final long serialVersionUID = 1L; // ForkJoinTask is Serializable; tasks are never serialized
+
+        private final transient Pokemon[] cards;
+        private final int from;
+        private final int to;
+
+        Bucketing(Pokemon[] cards, int from, int to) {
+            this.cards = cards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<TypeGrouping, Map<String, DoubleList[]>> compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                Bucketing left = new Bucketing(cards, from, mid);
+                left.fork();
+                Map<TypeGrouping, Map<String, DoubleList[]>> right = new Bucketing(cards, mid, to).compute();
+                return merge(left.join(), right);
+            }
+
+            Map<TypeGrouping, Map<String, DoubleList[]>> buckets = new EnumMap<>(TypeGrouping.class);
+            for (TypeGrouping grouping : TypeGrouping.values()) {
+                Map<String, DoubleList[]> byGroup = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    String group = grouping.groupOf(cards[i]);
+                    if (group == null) {
+                        continue;
+                    }
+                    DoubleList[] values = byGroup.computeIfAbsent(group, g -> newLists());
+                    for (int s = 0; s < STATS.length; s++) {
+                        values[s].add(STATS[s].of(cards[i]));
+                    }
+                }
+                buckets.put(grouping, byGroup);
+            }
+            return buckets;
+        }
+
+        // Left values come first, so each bucket keeps the cards' order
+        private static Map<TypeGrouping, Map<String, DoubleList[]>> merge(
+                Map<TypeGrouping, Map<String, DoubleList[]>> left, Map<TypeGrouping, Map<String, DoubleList[]>> right) {
+            right.forEach((grouping, byGroup) -> byGroup.forEach((group, values) ->
+                    left.get(grouping).merge(group, values, (into, more) -> {
+                        for (int s = 0; s < STATS.length; s++) {
+                            into[s].addAll(more[s]);
+                        }
+                        return into;
+                    })));
+            return left;
+        }
+
+        private static DoubleList[] newLists() {
+            DoubleList[] lists = new DoubleList[STATS.length];
+            for (int s = 0; s < STATS.length; s++) {
+                lists[s] = new DoubleList();
+            }
+            return lists;
+        }
+    }
+
+    /**
+     * One stat of one group: the folded values in ascending order plus pending changes
+     */
+    private static final class StatColumn {
+        double[] sorted = new double[0];
+        int size = 0;
+        double sum = 0;
+        final DoubleList added = new DoubleList();
+        final DoubleList removed = new DoubleList();
+        StatSummary summary; // null until summarized and after every change
+
+        int count() {
+            return size + added.size - removed.size;
+        }
+
+        StatSummary summary() {
+            if (summary == null) {
+                fold();
+                summary = new StatSummary(sorted, size, sum);
+            }
+            return summary;
+        }
+
+        // Merges the sorted additions in and drops the sorted removals in one pass.
+        // Always writes a new array, since earlier summaries still read the old one.
+        private void fold() {
+            if (added.size == 0 && removed.size == 0) {
+                return;
+            }
+            added.sort();
+            removed.sort();
+            double[] merged = new double[size + added.size];
+            int i = 0;
+            int j = 0;
+            int r = 0;
+            int k = 0;
+            double total = 0;
+            while (i < size || j < added.size) {
+                double value = j == added.size || (i < size && Double.compare(sorted[i], added.items[j]) <= 0)
+                        ? sorted[i++] : added.items[j++];
+                while (r < removed.size && Double.compare(removed.items[r], value) < 0) {
+                    r++; // Not present; cannot happen when callers only remove added cards
+                }
+                if (r < removed.size && Double.compare(removed.items[r], value) == 0) {
+                    r++;
+                    continue;
+                }
+                merged[k++] = value;
+                total += value;
+            }
+            sorted = merged;
+            size = k;
+            sum = total; // Summed afresh, so removals leave no rounding drift behind
+            added.clear();
+            removed.clear();
+        }
+    }
+
+    private static final class DoubleList {
+        double[] items = new double[8];
+        int size = 0;
+
+        void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void addAll(DoubleList other) {
+            if (size + other.size > items.length) {
+                items = Arrays.copyOf(items, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.items, 0, items, size, other.size);
+            size += other.size;
+        }
+
+        void sort() {
+            Arrays.parallelSort(items, 0, size); // Sorts sequentially below the fork-join granularity
+        }
+
+        void clear() {
+            items = new double[8];
+            size = 0;
+        }
+    }
+}
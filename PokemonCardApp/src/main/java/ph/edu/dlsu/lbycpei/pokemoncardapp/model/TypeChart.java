@@ -0,0 +1,88 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Arrays;
+
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonType.*;
+
+/**
+ * TypeChart - Damage multipliers of an attacking type against a defending type
+ * Held as a flat table indexed by the types' ordinals. Pairs not listed, and
+ * anything involving UNKNOWN, are neutral.
+ */
+final class TypeChart {
+
+    private static final int TYPES = PokemonType.values().length;
+    private static final double[] MULTIPLIERS = new double[TYPES * TYPES];
+
+    static {
+        Arrays.fill(MULTIPLIERS, 1.0);
+
+        set(NORMAL, 0.5, ROCK, STEEL);
+        set(NORMAL, 0, GHOST);
+        set(FIRE, 2, GRASS, ICE, BUG, STEEL);
+        set(FIRE, 0.5, FIRE, WATER, ROCK, DRAGON);
+        set(WATER, 2, FIRE, GROUND, ROCK);
+        set(WATER, 0.5, WATER, GRASS, DRAGON);
+        set(ELECTRIC, 2, WATER, FLYING);
+        set(ELECTRIC, 0.5, ELECTRIC, GRASS, DRAGON);
+        set(ELECTRIC, 0, GROUND);
+        set(GRASS, 2, WATER, GROUND, ROCK);
+        set(GRASS, 0.5, FIRE, GRASS, POISON, FLYING, BUG, DRAGON, STEEL);
+        set(ICE, 2, GRASS, GROUND, FLYING, DRAGON);
+        set(ICE, 0.5, FIRE, WATER, ICE, STEEL);
+        set(FIGHTING, 2, NORMAL, ICE, ROCK, DARK, STEEL);
+        set(FIGHTING, 0.5, POISON, FLYING, PSYCHIC, BUG, FAIRY);
+        set(FIGHTING, 0, GHOST);
+        set(POISON, 2, GRASS, FAIRY);
+        set(POISON, 0.5, POISON, GROUND, ROCK, GHOST);
+        set(POISON, 0, STEEL);
+        set(GROUND, 2, FIRE, ELECTRIC, POISON, ROCK, STEEL);
+        set(GROUND, 0.5, GRASS, BUG);
+        set(GROUND, 0, FLYING);
+        set(FLYING, 2, GRASS, FIGHTING, BUG);
+        set(FLYING, 0.5, ELECTRIC, ROCK, STEEL);
+        set(PSYCHIC, 2, FIGHTING, POISON);
+        set(PSYCHIC, 0.5, PSYCHIC, STEEL);
+        set(PSYCHIC, 0, DARK);
+        set(BUG, 2, GRASS, PSYCHIC, DARK);
+        set(BUG, 0.5, FIRE, FIGHTING, POISON, FLYING, GHOST, STEEL, FAIRY);
+        set(ROCK, 2, FIRE, ICE, FLYING, BUG);
+        set(ROCK, 0.5, FIGHTING, GROUND, STEEL);
+        set(GHOST, 2, PSYCHIC, GHOST);
+        set(GHOST, 0.5, DARK);
+        set(GHOST, 0, NORMAL);
+        set(DRAGON, 2, DRAGON);
+        set(DRAGON, 0.5, STEEL);
+        set(DRAGON, 0, FAIRY);
+        set(DARK, 2, PSYCHIC, GHOST);
+        set(DARK, 0.5, FIGHTING, DARK, FAIRY);
+        set(STEEL, 2, ICE, ROCK, FAIRY);
+        set(STEEL, 0.5, FIRE, WATER, ELECTRIC, STEEL);
+        set(FAIRY, 2, FIGHTING, DRAGON, DARK);
+        set(FAIRY, 0.5, FIRE, POISON, STEEL);
+    }
+
+    private TypeChart() {
+    }
+
+    private static void set(PokemonType attacking, double multiplier, PokemonType... defending) {
+        for (PokemonType type : defending) {
+            MULTIPLIERS[attacking.ordinal() * TYPES + type.ordinal()] = multiplier;
+        }
+    }
+
+    static double multiplier(PokemonType attacking, PokemonType defending) {
+        return MULTIPLIERS[attacking.ordinal() * TYPES + defending.ordinal()];
+    }
+
+    /**
+     * @return The multiplier of an attacking type against both of a card's types
+     */
+    static double against(PokemonType attacking, Pokemon defender) {
+        double multiplier = multiplier(attacking, defender.getPrimaryType());
+        if (defender.hasSecondaryType()) {
+            multiplier *= multiplier(attacking, defender.getSecondaryType());
+        }
+        return multiplier;
+    }
+}
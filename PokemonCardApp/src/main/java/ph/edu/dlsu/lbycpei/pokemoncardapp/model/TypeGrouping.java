@@ -0,0 +1,25 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+/**
+ * TypeGrouping - Ways of grouping cards by type for aggregate statistics
+ */
+public enum TypeGrouping {
+    PRIMARY_TYPE,
+    SECONDARY_TYPE, // Single-type cards belong to no group
+    TYPE_PAIR;
+
+    /**
+     * @param pokemon A card
+     * @return The card's group as written in the catalog, e.g. "Fire", "Flying" or
+     *         "Fire-Flying", or null if the card has none
+     */
+    public String groupOf(Pokemon pokemon) {
+        return switch (this) {
+            case PRIMARY_TYPE -> pokemon.getPrimaryTypeName();
+            case SECONDARY_TYPE -> pokemon.getSecondaryTypeName();
+            case TYPE_PAIR -> pokemon.hasSecondaryType()
+                    ? pokemon.getPrimaryTypeName() + "-" + pokemon.getSecondaryTypeName()
+                    : pokemon.getPrimaryTypeName();
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TypeIndex - One bitset per type over the positions of the catalog list
+ * Bit i of a type's set is on when the card at position i has that type, so
+ * type filters become AND / OR / AND NOT over the sets. Sets are keyed by the
+ * PokemonType codes cards resolve once at construction, so neither indexing
+ * nor a query looks at a card's type string.
+ *
+ * Type names outside PokemonType all share the UNKNOWN set. A filter on such a
+ * name keeps only the cards of that set whose own type name matches.
+ *
+ * Appends only set bits. Removing cards shifts positions, so the index is
+ * marked stale instead and rebuilt on the next query. Queries are synchronized
+ * because that rebuild may run while other readers query.
+ */
+final class TypeIndex {
+
+    private final Map<PokemonType, BitSet> byType = new EnumMap<>(PokemonType.class);
+    private int size = 0;
+    private boolean stale = false;
+
+    // Index cards appended at the end of the list
+    void append(Collection<? extends Pokemon> pokemon) {
+        if (stale) {
+            return;
+        }
+        for (Pokemon p : pokemon) {
+            byType.computeIfAbsent(p.getPrimaryType(), t -> new BitSet()).set(size);
+            if (p.hasSecondaryType()) {
+                byType.computeIfAbsent(p.getSecondaryType(), t -> new BitSet()).set(size);
+            }
+            size++;
+        }
+    }
+
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Positions of the cards matching a type filter. Empty collections do not constrain.
+     * @param list The catalog list the positions refer to
+     * @param allOf Types a card must all have
+     * @param anyOf Types a card must have at least one of
+     * @param noneOf Types a card must not have
+     * @return A new bitset of matching positions
+     */
+    synchronized BitSet query(List<? extends Pokemon> list, Collection<String> allOf,
+                 Collection<String> anyOf, Collection<String> noneOf) {
+        if (stale || size != list.size()) {
+            rebuild(list);
+        }
+
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        for (String type : allOf) {
+            result.and(get(list, type));
+        }
+        if (!anyOf.isEmpty()) {
+            BitSet any = new BitSet(size);
+            for (String type : anyOf) {
+                any.or(get(list, type));
+            }
+            result.and(any);
+        }
+        for (String type : noneOf) {
+            result.andNot(get(list, type));
+        }
+        return result;
+    }
+
+    // The returned set is only read by query
+    private BitSet get(List<? extends Pokemon> list, String name) {
+        PokemonType type = PokemonType.of(name);
+        BitSet bits = byType.get(type);
+        if (bits == null) {
+            return new BitSet();
+        }
+        if (type != PokemonType.UNKNOWN) {
+            return bits;
+        }
+        String wanted = name.trim();
+        BitSet named = new BitSet();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            Pokemon p = list.get(i);
+            if (isUnknownNamed(p.getPrimaryType(), p.getPrimaryTypeName(), wanted)
+                    || isUnknownNamed(p.getSecondaryType(), p.getSecondaryTypeName(), wanted)) {
+                named.set(i);
+            }
+        }
+        return named;
+    }
+
+    private static boolean isUnknownNamed(PokemonType type, String typeName, String wanted) {
+        return type == PokemonType.UNKNOWN && typeName.trim().equalsIgnoreCase(wanted);
+    }
+
+    private void rebuild(List<? extends Pokemon> list) {
+        byType.clear();
+        size = 0;
+        stale = false;
+        append(list);
+    }
+}
@@ -0,0 +1,228 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.AbstractPokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BinaryCatalog - Compact binary snapshot of a parsed catalog
+ *
+ * Layout (big-endian):
+ *   header        magic, version, source last-modified, source length, row count,
+ *                 string count, string table offset
+ *   stat columns  weight[], height[], attack[], defense[], stamina[] as doubles
+ *   ref columns   name[], type[] as indexes into the string table
+ *   string table  length-prefixed UTF-8 strings, each distinct name/type stored once
+ *
+ * Snapshots remember the modification time and size of the CSV they were built from.
+ * Loading memory-maps the file and reads the columns directly, which is much faster
+ * than parsing text; a snapshot whose source has changed is ignored.
+ */
+public final class BinaryCatalog {
+
+    private static final int MAGIC = 0x504B4353; // "PKCS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4 + 8;
+    private static final int STAT_COLUMNS = 5;
+
+    /**
+     * Identity of the CSV a snapshot was built from
+     */
+    public record SourceStamp(long lastModified, long length) {
+
+        public static SourceStamp of(File file) {
+            return new SourceStamp(file.lastModified(), file.length());
+        }
+
+        /**
+         * @return Stamp of a classpath resource, or null if it cannot be determined
+         */
+        public static SourceStamp ofResource(String resourcePath) {
+            URL url = BinaryCatalog.class.getClassLoader().getResource(resourcePath);
+            if (url == null) {
+                return null;
+            }
+            try {
+                URLConnection connection = url.openConnection();
+                connection.setUseCaches(false);
+                long lastModified = connection.getLastModified();
+                long length = connection.getContentLengthLong();
+                connection.getInputStream().close();
+                return lastModified > 0 ? new SourceStamp(lastModified, length) : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private BinaryCatalog() {
+        // Not meant to be instantiated
+    }
+
+    /**
+     * Load a snapshot if it exists and was built from the given source
+     * @param snapshot Snapshot file
+     * @param source Current stamp of the CSV source
+     * @return Pokemon in their original order with fresh instance IDs, or null if the
+     *         snapshot is missing, stale or unreadable
+     */
+    public static List<Pokemon> loadIfFresh(Path snapshot, SourceStamp source) {
+        if (source == null || !Files.isRegularFile(snapshot)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return null;
+            }
+            if (buffer.getLong(8) != source.lastModified() || buffer.getLong(16) != source.length()) {
+                return null; // Source CSV changed since the snapshot was written
+            }
+
+            int count = buffer.getInt(24);
+            int stringCount = buffer.getInt(28);
+            long stringTableOffset = buffer.getLong(32);
+            String[] strings = readStrings(buffer, (int) stringTableOffset, stringCount);
+
+            int offset = HEADER_SIZE;
+            DoubleBuffer[] stats = new DoubleBuffer[STAT_COLUMNS];
+            for (int column = 0; column < STAT_COLUMNS; column++) {
+                stats[column] = buffer.slice(offset, count * Double.BYTES).asDoubleBuffer();
+                offset += count * Double.BYTES;
+            }
+            IntBuffer names = buffer.slice(offset, count * Integer.BYTES).asIntBuffer();
+            offset += count * Integer.BYTES;
+            IntBuffer types = buffer.slice(offset, count * Integer.BYTES).asIntBuffer();
+
+            List<Pokemon> pokemon = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                pokemon.add(new Pokemon(0, strings[names.get(i)],
+                        stats[0].get(i), stats[1].get(i), stats[2].get(i), stats[3].get(i), stats[4].get(i),
+                        strings[types.get(i)]));
+            }
+            PokemonFactory.assignInstanceIds(pokemon);
+            return pokemon;
+
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable catalog snapshot " + snapshot + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write a snapshot. The file is written next to its final location and moved
+     * into place, so readers never see a partially written snapshot.
+     * @param snapshot Snapshot file to create or replace
+     * @param pokemon Rows to store, in order
+     * @param source Stamp of the CSV the rows came from
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path snapshot, List<? extends AbstractPokemon> pokemon, SourceStamp source)
+            throws IOException {
+        int count = pokemon.size();
+
+        // Build the string table, storing repeated names and types once
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] names = new int[count];
+        int[] types = new int[count];
+        long stringBytes = 0;
+        for (int i = 0; i < count; i++) {
+            AbstractPokemon p = pokemon.get(i);
+            for (int field = 0; field < 2; field++) {
+                String value = field == 0 ? p.getName() : p.getType();
+                Integer id = stringIds.get(value);
+                if (id == null) {
+                    id = strings.size();
+                    stringIds.put(value, id);
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    strings.add(bytes);
+                    stringBytes += Integer.BYTES + bytes.length;
+                }
+                (field == 0 ? names : types)[i] = id;
+            }
+        }
+        long stringTableOffset = HEADER_SIZE + (long) count * (STAT_COLUMNS * Double.BYTES + 2 * Integer.BYTES);
+        if (stringTableOffset + stringBytes > Integer.MAX_VALUE) {
+            throw new IOException("Catalog too large for a snapshot: " + count + " rows");
+        }
+
+        Path directory = snapshot.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, snapshot.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(source.lastModified());
+                out.writeLong(source.length());
+                out.writeInt(count);
+                out.writeInt(strings.size());
+                out.writeLong(stringTableOffset);
+
+                for (int column = 0; column < STAT_COLUMNS; column++) {
+                    for (AbstractPokemon p : pokemon) {
+                        out.writeDouble(switch (column) {
+                            case 0 -> p.getWeight();
+                            case 1 -> p.getHeight();
+                            case 2 -> p.getAttack();
+                            case 3 -> p.getDefense();
+                            default -> p.getStamina();
+                        });
+                    }
+                }
+                for (int name : names) {
+                    out.writeInt(name);
+                }
+                for (int type : types) {
+                    out.writeInt(type);
+                }
+                for (byte[] bytes : strings) {
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int offset, int count) {
+        String[] strings = new String[count];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt(offset);
+            offset += Integer.BYTES;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(offset, scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            offset += length;
+        }
+        return strings;
+    }
+}
@@ -1,16 +1,28 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
 
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CSVFileLoader {
 
+    private final PokemonCSVParser parser = new PokemonCSVParser();
     private int totalLines = 0;
     private int skippedLines = 0;
     private final List<String> skippedLineDetails = new ArrayList<>();
@@ -44,6 +56,63 @@ public class CSVFileLoader {
         return loader.loadCSVToStringArray(file);
     }
 
+    /**
+     * Static method to load Pokemon directly from a CSV file in the resources folder.
+     * Each row is validated and converted in a single pass, without building
+     * an intermediate array of lines.
+     * @param resourcePath Path to the CSV file in resources
+     * @return List of Pokemon created from the valid rows, in file order
+     */
+    public static List<Pokemon> loadPokemonFromResources(String resourcePath) {
+        CSVFileLoader loader = new CSVFileLoader();
+        return loader.loadPokemonFromResourcesInternal(resourcePath);
+    }
+
+    /**
+     * Static method to load Pokemon directly from a CSV file on the file system
+     * @param file CSV file object
+     * @return List of Pokemon created from the valid rows, in file order
+     */
+    public static List<Pokemon> loadPokemon(File file) {
+        CSVFileLoader loader = new CSVFileLoader();
+        return loader.loadPokemonFromFile(file);
+    }
+
+    /**
+     * Static method to stream Pokemon from a CSV file in the resources folder.
+     * Rows are parsed as the stream is consumed, so memory stays proportional to
+     * what the consumer keeps. A parallel() stream parses batches of rows on
+     * worker threads. Close the stream (try-with-resources) when done.
+     * @param resourcePath Path to the CSV file in resources
+     * @return Lazily parsed stream of Pokemon, in file order
+     */
+    public static Stream<Pokemon> streamPokemonFromResources(String resourcePath) {
+        CSVFileLoader loader = new CSVFileLoader();
+        return loader.streamPokemonFromResourcesInternal(resourcePath);
+    }
+
+    /**
+     * Static method to stream Pokemon from a CSV file on the file system
+     * @param file CSV file object
+     * @return Lazily parsed stream of Pokemon, in file order; must be closed
+     */
+    public static Stream<Pokemon> streamPokemon(File file) {
+        CSVFileLoader loader = new CSVFileLoader();
+        return loader.streamPokemonFromFile(file);
+    }
+
+    /**
+     * Static method to load a large CSV file using memory mapping.
+     * The file is split into newline-aligned chunks that are parsed in parallel
+     * on the common fork-join pool; the result keeps file order.
+     * @param file CSV file object
+     * @return List of Pokemon created from the valid rows, in file order
+     */
+    public static List<Pokemon> loadPokemonMapped(File file) {
+        CSVFileLoader loader = new CSVFileLoader();
+        return loader.loadPokemonFromFileMapped(file);
+    }
+
     /**
      * Internal method to load CSV from resources folder
      * @param resourcePath Path to resource file
@@ -135,6 +204,131 @@ public class CSVFileLoader {
         return validLines.toArray(new String[0]);
     }
 
+    /**
+     * Internal method to parse Pokemon from a CSV file in the resources folder
+     * @param resourcePath Path to resource file
+     * @return List of Pokemon created from the valid rows
+     */
+    private List<Pokemon> loadPokemonFromResourcesInternal(String resourcePath) {
+        try (Stream<Pokemon> rows = streamPokemonFromResourcesInternal(resourcePath)) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
+        } catch (UncheckedIOException e) {
+            System.err.println("Error reading resource file: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Parses Pokemon from a CSV file, skipping malformed lines
+     * @param file The CSV file to load
+     * @return List of Pokemon created from the valid rows
+     */
+    public List<Pokemon> loadPokemonFromFile(File file) {
+        try (Stream<Pokemon> rows = streamPokemonFromFile(file)) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
+        } catch (UncheckedIOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Internal method to stream Pokemon from a CSV file in the resources folder
+     * @param resourcePath Path to resource file
+     * @return Lazily parsed stream of Pokemon; must be closed
+     */
+    private Stream<Pokemon> streamPokemonFromResourcesInternal(String resourcePath) {
+        resetStatistics();
+
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            System.err.println("Error reading resource file: Resource file not found: " + resourcePath);
+            return Stream.empty();
+        }
+        return openStream(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streams Pokemon from a CSV file, skipping malformed lines.
+     * Statistics are complete once the stream has been fully consumed.
+     * @param file The CSV file to load
+     * @return Lazily parsed stream of Pokemon; must be closed
+     */
+    public Stream<Pokemon> streamPokemonFromFile(File file) {
+        resetStatistics();
+
+        try {
+            return openStream(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return Stream.empty();
+    }
+
+    private Stream<Pokemon> openStream(Reader reader) {
+        return StreamSupport.stream(CSVRecordSpliterator.of(reader, this), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Parses Pokemon from a memory-mapped CSV file in parallel, skipping malformed lines
+     * @param file The CSV file to load
+     * @return List of Pokemon created from the valid rows, in file order
+     */
+    public List<Pokemon> loadPokemonFromFileMapped(File file) {
+        resetStatistics();
+
+        try {
+            MappedCSVLoader.Result result = MappedCSVLoader.load(file.toPath(), ForkJoinPool.commonPool(), true);
+            totalLines = result.totalLines();
+            skippedLines = result.skippedLineDetails().size();
+            skippedLineDetails.addAll(result.skippedLineDetails());
+            return result.pokemon();
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return new ArrayList<>();
+    }
+
+    // Statistics reported by CSVRecordSpliterator, possibly from several threads
+    synchronized void recordLines(int count) {
+        totalLines += count;
+    }
+
+    synchronized void recordSkipped(String detail, boolean malformed) {
+        skippedLines++;
+        skippedLineDetails.add(detail);
+        if (malformed) {
+            System.out.println("Skipped malformed line: " + detail);
+        }
+    }
+
+    static boolean isBlank(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resetStatistics() {
+        totalLines = 0;
+        skippedLines = 0;
+        skippedLineDetails.clear();
+    }
+
     /**
      * Cleans a CSV line by removing extra quotes and commas
      * @param line Raw line from CSV
@@ -168,50 +362,8 @@ public class CSVFileLoader {
             return false;
         }
 
-        // Split by comma
-        String[] fields = line.split(",");
-
-        // Check if we have exactly 7 fields
-        if (fields.length != 7) {
-            return false;
-        }
-
-        // Validate each field
-        try {
-            // Field 0: Name (should not be empty)
-            if (fields[0].trim().isEmpty()) {
-                return false;
-            }
-
-            // Field 1: Weight (should be parseable as double and end with 'kg')
-            String weight = fields[1].trim();
-            if (!weight.endsWith("kg")) {
-                return false;
-            }
-            Double.parseDouble(weight.substring(0, weight.length() - 2));
-
-            // Field 2: Height (should be parseable as double and end with 'm')
-            String height = fields[2].trim();
-            if (!height.endsWith("m")) {
-                return false;
-            }
-            Double.parseDouble(height.substring(0, height.length() - 1));
-
-            // Fields 3, 4, 5: Stats (should be parseable as double)
-            Double.parseDouble(fields[3].trim());
-            Double.parseDouble(fields[4].trim());
-            Double.parseDouble(fields[5].trim());
-
-            // Field 6: Type (should not be empty)
-            if (fields[6].trim().isEmpty()) {
-                return false;
-            }
-
-            return true;
-
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        // Single pass over the line: field count, units, numbers and non-empty name/type
+        return parser.isValid(line);
     }
 
     // Getters for statistics
@@ -237,4 +389,4 @@ public class CSVFileLoader {
                 getValidLines(), skippedLines, totalLines
         );
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,284 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CSVParseException;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * CSVRecordSpliterator - Spliterators that parse catalog rows as they are consumed
+ *
+ * Rows are turned into Pokemon one at a time, so a consumer can ingest a catalog
+ * without the whole file ever being held as lines. Splitting hands out a prefix of
+ * the remaining rows as raw text; the parsing of that prefix then happens on
+ * whichever thread consumes it, which is what makes parallel streams useful here.
+ *
+ * Line counts and skipped rows are reported to the owning CSVFileLoader.
+ * Instance IDs are assigned in parse order, which matches file order for
+ * sequential streams only.
+ */
+abstract class CSVRecordSpliterator implements Spliterator<Pokemon> {
+
+    private static final int AVERAGE_ROW_LENGTH = 48;
+
+    private final CSVFileLoader loader;
+    private final PokemonCSVParser parser = new PokemonCSVParser();
+    private int linesSeen = 0;
+
+    CSVRecordSpliterator(CSVFileLoader loader) {
+        this.loader = loader;
+    }
+
+    protected CSVFileLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Spliterator over rows read from a Reader
+     */
+    static Spliterator<Pokemon> of(Reader reader, CSVFileLoader loader) {
+        return new ReaderSpliterator(reader, loader);
+    }
+
+    /**
+     * Parse one row
+     * @return The Pokemon, or null if the row was empty or malformed
+     */
+    protected Pokemon parseRow(CharSequence text, int start, int end, int lineNumber) {
+        linesSeen++;
+
+        // Skip empty lines
+        if (CSVFileLoader.isBlank(text, start, end)) {
+            loader.recordSkipped("Line " + lineNumber + ": Empty line", false);
+            return null;
+        }
+
+        try {
+            return parser.parse(text, start, end, lineNumber);
+        } catch (CSVParseException e) {
+            loader.recordSkipped(e.getMessage(), true);
+            return null;
+        }
+    }
+
+    // Called once the spliterator is exhausted
+    protected void finish() {
+        if (linesSeen > 0) {
+            loader.recordLines(linesSeen);
+            linesSeen = 0;
+        }
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    protected static int countRows(char[] text, int start, int end) {
+        int rows = 0;
+        for (int i = start; i < end; i++) {
+            if (text[i] == '\n') {
+                rows++;
+            }
+        }
+        // A final row without a line terminator still counts
+        return end > start && text[end - 1] != '\n' ? rows + 1 : rows;
+    }
+
+    /**
+     * Rows of an in-memory block of text. Splits near the middle, on a line boundary.
+     */
+    static final class RangeSpliterator extends CSVRecordSpliterator {
+        private static final int MIN_SPLIT_LENGTH = 16 * 1024;
+
+        private final char[] text;
+        private final CharBuffer view;
+        private int pos;
+        private final int end;
+        private int nextLine;
+
+        RangeSpliterator(char[] text, int start, int end, int firstLine, CSVFileLoader loader) {
+            super(loader);
+            this.text = text;
+            this.view = CharBuffer.wrap(text);
+            this.pos = start;
+            this.end = end;
+            this.nextLine = firstLine;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Pokemon> action) {
+            while (pos < end) {
+                int rowEnd = pos;
+                while (rowEnd < end && text[rowEnd] != '\n') {
+                    rowEnd++;
+                }
+                Pokemon pokemon = parseRow(view, pos, rowEnd, nextLine++);
+                pos = rowEnd < end ? rowEnd + 1 : end;
+                if (pokemon != null) {
+                    action.accept(pokemon);
+                    return true;
+                }
+            }
+            finish();
+            return false;
+        }
+
+        @Override
+        public Spliterator<Pokemon> trySplit() {
+            if (end - pos < MIN_SPLIT_LENGTH) {
+                return null;
+            }
+            int splitAt = pos + (end - pos) / 2;
+            while (splitAt < end && text[splitAt - 1] != '\n') {
+                splitAt++;
+            }
+            if (splitAt >= end) {
+                return null;
+            }
+
+            // Hand out the first half; this spliterator continues with the second
+            RangeSpliterator prefix = new RangeSpliterator(text, pos, splitAt, nextLine, getLoader());
+            nextLine += countRows(text, pos, splitAt);
+            pos = splitAt;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (end - pos) / AVERAGE_ROW_LENGTH + 1;
+        }
+    }
+
+    /**
+     * Rows streamed from a Reader through a reusable buffer. Splits by copying the
+     * next batch of complete lines out of the buffer, with batches growing each time.
+     */
+    static final class ReaderSpliterator extends CSVRecordSpliterator {
+        private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+        private static final int BATCH_UNIT = 64 * 1024;
+        private static final int MAX_BATCH = 1 << 24;
+
+        private final Reader reader;
+        private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+        private CharBuffer view = CharBuffer.wrap(buffer);
+        private int pos = 0;       // Start of the next unread row
+        private int rowStart = 0;  // Start of the row found by nextRowEnd
+        private int limit = 0;     // End of the buffered text
+        private int scanFrom = 0;  // Where the search for the next newline resumes
+        private boolean eof = false;
+        private int lastLine = 0;
+        private int batch = 0;
+
+        ReaderSpliterator(Reader reader, CSVFileLoader loader) {
+            super(loader);
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Pokemon> action) {
+            while (true) {
+                int rowEnd = nextRowEnd();
+                if (rowEnd < 0) {
+                    finish();
+                    return false;
+                }
+                Pokemon pokemon = parseRow(view, rowStart, rowEnd, ++lastLine);
+                if (pokemon != null) {
+                    action.accept(pokemon);
+                    return true;
+                }
+            }
+        }
+
+        // Finds the row starting at pos (sets rowStart, moves pos past it); -1 when no rows are left
+        private int nextRowEnd() {
+            while (true) {
+                for (int i = scanFrom; i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        rowStart = pos;
+                        pos = i + 1;
+                        scanFrom = pos;
+                        return i;
+                    }
+                }
+                scanFrom = limit;
+
+                if (eof) {
+                    if (pos < limit) {
+                        // Last line without a trailing newline
+                        rowStart = pos;
+                        pos = limit;
+                        return limit;
+                    }
+                    return -1;
+                }
+                fill();
+            }
+        }
+
+        // Moves the unread text to the front of the buffer and reads more, growing the buffer when full
+        private void fill() {
+            if (pos > 0) {
+                System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+                limit -= pos;
+                scanFrom -= pos;
+                pos = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                view = CharBuffer.wrap(buffer);
+            }
+            try {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    limit += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Spliterator<Pokemon> trySplit() {
+            batch = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+            while (!eof && limit - pos < batch) {
+                fill();
+            }
+
+            // Cut after the last complete line that fits in the batch
+            int cut = Math.min(limit, pos + batch);
+            int splitAt = cut;
+            while (splitAt > pos && buffer[splitAt - 1] != '\n') {
+                splitAt--;
+            }
+            if (splitAt == pos) {
+                if (!eof || pos == limit) {
+                    return null;
+                }
+                splitAt = limit; // Only an unterminated last line remains
+            }
+
+            char[] prefix = Arrays.copyOfRange(buffer, pos, splitAt);
+            RangeSpliterator split = new RangeSpliterator(prefix, 0, prefix.length, lastLine + 1, getLoader());
+            lastLine += countRows(prefix, 0, prefix.length);
+            pos = splitAt;
+            scanFrom = pos;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CatalogDelta;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.ColumnarCatalog;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.DuplicatePolicy;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * CatalogFileWatcher - Reloads a catalog file when it changes on disk
+ *
+ * A daemon thread watches the file's directory with a WatchService. When the file
+ * is modified (or replaced), the watcher waits for writes to settle, re-parses the
+ * file, resolves rows sharing a name with the catalog's duplicate policy and diffs the
+ * result against the previous version of the file, resolved the same way. Only that
+ * delta is handed to the listener, so changes made to the catalog since the file was
+ * loaded are not undone. Parsing and diffing happen on the watcher thread, which also
+ * calls the listener. The previous version is kept as a ColumnarCatalog, a fraction of
+ * the heap a second list of Pokemon would take.
+ */
+public class CatalogFileWatcher implements AutoCloseable {
+
+    private static final long SETTLE_MILLIS = 300;
+
+    private final Path file;
+    private final DuplicatePolicy duplicatePolicy;
+    private final Consumer<CatalogDelta> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+    private ColumnarCatalog loaded;
+
+    /**
+     * Create a watcher
+     * @param file Catalog file to watch
+     * @param loaded Rows loaded from the file after duplicate resolution, before any other
+     *               change to the catalog (the baseline for the first diff)
+     * @param duplicatePolicy Policy the catalog resolves rows sharing a name with
+     * @param listener Receives each non-empty delta, on the watcher thread
+     * @throws IOException if the directory cannot be watched
+     */
+    public CatalogFileWatcher(File file, List<Pokemon> loaded, DuplicatePolicy duplicatePolicy,
+                              Consumer<CatalogDelta> listener) throws IOException {
+        this.file = file.toPath().toAbsolutePath();
+        this.loaded = ColumnarCatalog.of(loaded.stream());
+        this.duplicatePolicy = duplicatePolicy;
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        this.thread = new Thread(this::watch, "catalog-file-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = concernsFile(key);
+
+                // Editors often write a file in several steps; wait until events stop arriving
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= concernsFile(next);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watcher closed
+        }
+    }
+
+    private boolean concernsFile(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        if (!file.toFile().isFile()) {
+            return; // File is being replaced; the create event triggers the reload
+        }
+
+        List<Pokemon> current;
+        try {
+            current = duplicatePolicy.resolve(MappedCSVLoader.load(file, ForkJoinPool.commonPool(), false).pokemon());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reloading catalog " + file + ": " + e.getMessage());
+            return;
+        }
+
+        CatalogDelta delta = CatalogDelta.between(loaded, current);
+        loaded = ColumnarCatalog.of(current.stream());
+        if (!delta.isEmpty()) {
+            PokemonFactory.assignInstanceIds(delta.getInserted());
+            listener.accept(delta);
+        }
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("Error closing catalog watcher: " + e.getMessage());
+        }
+    }
+}
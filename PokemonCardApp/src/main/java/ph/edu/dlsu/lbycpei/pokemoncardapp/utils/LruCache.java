@@ -0,0 +1,172 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * LruCache - Values kept under a byte budget, least recently used evicted first
+ *
+ * Each value is weighed once when it is stored; when the total goes over the
+ * budget the entries that were read longest ago are dropped. With soft values
+ * the garbage collector may also clear entries under memory pressure. Cleared
+ * entries are queued by the collector and dropped, with their bytes, before the
+ * next lookup or store, so they neither take up the budget nor push live
+ * entries out; a lookup of a cleared key counts as a miss.
+ *
+ * Methods are synchronized; loaders run outside the lock, so two threads that
+ * miss on the same key at once may both load it and the later one is kept.
+ */
+public final class LruCache<K, V> {
+
+    private final long budgetBytes;
+    private final boolean softValues;
+    private final ToLongFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<K, V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<V> cleared = new ReferenceQueue<>();
+
+    private long usedBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * @param budgetBytes Most bytes the cached values may weigh together
+     * @param softValues Whether the garbage collector may clear values under memory pressure
+     * @param weigher Estimated size of a value in bytes
+     */
+    public LruCache(long budgetBytes, boolean softValues, ToLongFunction<? super V> weigher) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Budget must not be negative: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+        this.softValues = softValues;
+        this.weigher = weigher;
+    }
+
+    /**
+     * @param key Cache key
+     * @return The cached value, or null on a miss
+     */
+    public synchronized V get(K key) {
+        drainCleared();
+        Entry<K, V> entry = entries.get(key);
+        V value = entry != null ? entry.get() : null;
+        if (value == null) {
+            if (entry != null) {
+                // Cleared by the garbage collector but not queued yet
+                entries.remove(key);
+                usedBytes -= entry.bytes;
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return value;
+    }
+
+    /**
+     * Cached value for a key, loading and storing it on a miss
+     * @param key Cache key
+     * @param loader Creates the value; a null result is returned but not cached
+     * @return The cached or newly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Store a value, evicting least recently used entries to stay within the budget.
+     * A value heavier than the whole budget is not stored.
+     */
+    public synchronized void put(K key, V value) {
+        drainCleared(); // Otherwise cleared entries would count against the budget and evict live ones
+        long bytes = Math.max(0, weigher.applyAsLong(value));
+        Entry<K, V> previous = entries.remove(key);
+        if (previous != null) {
+            usedBytes -= previous.bytes;
+        }
+        if (bytes > budgetBytes) {
+            return;
+        }
+        entries.put(key, new Entry<>(key, value, bytes, softValues ? cleared : null));
+        usedBytes += bytes;
+
+        Iterator<Entry<K, V>> eldest = entries.values().iterator();
+        while (usedBytes > budgetBytes) {
+            usedBytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+        while (cleared.poll() != null) {
+            // Entries already gone
+        }
+    }
+
+    // Drops the entries whose values the garbage collector has cleared
+    private void drainCleared() {
+        for (Reference<? extends V> reference = cleared.poll(); reference != null; reference = cleared.poll()) {
+            Entry<?, ?> entry = (Entry<?, ?>) reference;
+            if (entries.remove(entry.key, entry)) { // Unless replaced or removed since
+                usedBytes -= entry.bytes;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        drainCleared();
+        return entries.size();
+    }
+
+    public synchronized long getUsedBytes() {
+        drainCleared();
+        return usedBytes;
+    }
+
+    public long getBudgetBytes() { return budgetBytes; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+
+    @Override
+    public synchronized String toString() {
+        drainCleared();
+        return String.format("%d entries, %d of %d bytes, %d hits, %d misses, %d evictions",
+                entries.size(), usedBytes, budgetBytes, hits, misses, evictions);
+    }
+
+    // Holds the value strongly, or softly when given the queue the collector reports it to
+    private static final class Entry<K, V> extends SoftReference<V> {
+        private final K key;
+        private final V strong;
+        private final long bytes;
+
+        Entry(K key, V value, long bytes, ReferenceQueue<V> queue) {
+            super(queue != null ? value : null, queue);
+            this.key = key;
+            this.strong = queue != null ? null : value;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public V get() {
+            return strong != null ? strong : super.get();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CSVParseException;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * MappedCSVLoader - Parallel loader for large catalog files
+ * The file is memory-mapped, cut into newline-aligned chunks and every chunk is
+ * parsed on a fork-join pool. Chunk results are merged back in file order, and
+ * instance IDs are assigned after the merge so they follow the file as well.
+ */
+final class MappedCSVLoader {
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;  // 1 MB
+    private static final long MAX_CHUNK_SIZE = 1L << 28;  // 256 MB, well below the 2 GB mapping limit
+    private static final int CHUNKS_PER_THREAD = 4;       // Spare chunks keep all workers busy
+    private static final int PROBE_SIZE = 8 * 1024;
+
+    /**
+     * Row skipped while parsing; line is relative to its chunk, column is 0 for empty lines
+     */
+    private record Skipped(int line, int column, String reason) {
+    }
+
+    private record ChunkResult(List<Pokemon> pokemon, int lines, List<Skipped> skipped) {
+    }
+
+    /**
+     * Merged outcome of a load, in file order
+     */
+    record Result(List<Pokemon> pokemon, int totalLines, List<String> skippedLineDetails) {
+    }
+
+    private MappedCSVLoader() {
+        // Not meant to be instantiated
+    }
+
+    /**
+     * Load every valid row of a CSV file
+     * @param file The CSV file to load
+     * @param pool Pool that parses the chunks
+     * @param assignInstanceIds false to leave instance IDs at 0 for the caller to assign
+     * @return The parsed Pokemon plus line statistics
+     * @throws IOException if the file cannot be read
+     */
+    static Result load(Path file, ForkJoinPool pool, boolean assignInstanceIds) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = Math.max(MIN_CHUNK_SIZE,
+                    Math.min(MAX_CHUNK_SIZE, size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD)));
+
+            List<Callable<ChunkResult>> tasks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : lineEndAfter(channel, start + chunkSize, size);
+                long chunkStart = start;
+                tasks.add(() -> parseChunk(channel, chunkStart, end));
+                start = end;
+            }
+
+            List<ChunkResult> results = new ArrayList<>(tasks.size());
+            for (Future<ChunkResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return merge(results, assignInstanceIds);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading " + file);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Failed to parse " + file, e.getCause());
+        }
+    }
+
+    /**
+     * Find the offset just past the first newline at or after position
+     */
+    private static long lineEndAfter(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static ChunkResult parseChunk(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int length = bytes.limit();
+        ByteText text = new ByteText(bytes, 0, length);
+        PokemonCSVParser parser = new PokemonCSVParser(false);
+
+        List<Pokemon> pokemon = new ArrayList<>();
+        List<Skipped> skipped = new ArrayList<>();
+        int lines = 0;
+        int lineStart = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (bytes.get(i) == '\n') {
+                parseRow(parser, text, lineStart, i, ++lines, pokemon, skipped);
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < length) {
+            // Last line of the file without a trailing newline
+            parseRow(parser, text, lineStart, length, ++lines, pokemon, skipped);
+        }
+        return new ChunkResult(pokemon, lines, skipped);
+    }
+
+    private static void parseRow(PokemonCSVParser parser, CharSequence text, int start, int end, int line,
+                                 List<Pokemon> pokemon, List<Skipped> skipped) {
+        if (CSVFileLoader.isBlank(text, start, end)) {
+            skipped.add(new Skipped(line, 0, "Empty line"));
+            return;
+        }
+        try {
+            pokemon.add(parser.parse(text, start, end, line));
+        } catch (CSVParseException e) {
+            skipped.add(new Skipped(line, e.getColumn(), e.getReason()));
+        }
+    }
+
+    private static Result merge(List<ChunkResult> results, boolean assignInstanceIds) {
+        int count = 0;
+        for (ChunkResult result : results) {
+            count += result.pokemon().size();
+        }
+
+        List<Pokemon> pokemon = new ArrayList<>(count);
+        List<String> details = new ArrayList<>();
+        int lineOffset = 0;
+        for (ChunkResult result : results) {
+            pokemon.addAll(result.pokemon());
+            for (Skipped skipped : result.skipped()) {
+                int line = lineOffset + skipped.line();
+                if (skipped.column() == 0) {
+                    details.add("Line " + line + ": " + skipped.reason());
+                } else {
+                    String detail = "Line " + line + ", column " + skipped.column() + ": " + skipped.reason();
+                    details.add(detail);
+                    System.out.println("Skipped malformed line: " + detail);
+                }
+            }
+            lineOffset += result.lines();
+        }
+
+        if (assignInstanceIds) {
+            PokemonFactory.assignInstanceIds(pokemon);
+        }
+        return new Result(pokemon, lineOffset, details);
+    }
+
+    /**
+     * Read-only CharSequence over UTF-8 bytes. charAt exposes raw bytes, which is
+     * enough for the parser's ASCII delimiters; toString decodes the bytes properly.
+     */
+    private static final class ByteText implements CharSequence {
+        private final ByteBuffer bytes;
+        private final int offset;
+        private final int length;
+
+        ByteText(ByteBuffer bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new ByteText(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] copy = new byte[length];
+            bytes.get(offset, copy);
+            return new String(copy, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CSVParseException;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CatalogDelta;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * MutationLog - Append-only log of catalog removals and inserts
+ *
+ * Each mutation is one line: "-\tName" for a removal (every card with that name,
+ * ignoring case), "+\tName,9.0kg,0.5m,0.55,0.35,0.56,Water" for an insert, or
+ * "~\t" followed by a row for an update of every card with the row's name.
+ *
+ * Callers only enqueue mutations. A writer thread takes everything queued since
+ * its last write, appends it in one write and forces it to disk once, so a burst
+ * of mutations costs one fsync (group commit) and the UI thread never waits on I/O.
+ *
+ * The log is kept as the net effect of its mutations: a removal cancels earlier
+ * inserts and updates of the name and an update is folded into earlier inserts, so
+ * only removed names, updates of pre-existing cards and surviving inserts matter. When the
+ * file grows well past that, it is compacted by rewriting just the net effect.
+ * Opening a log streams the file once and exposes the net effect as a CatalogDelta
+ * to apply on top of the base catalog. A torn last line from a crash is dropped.
+ *
+ * A failed write fails the flush() futures waiting on it. The file may then lack
+ * records or end in a torn line, so the next write rewrites the whole net effect.
+ */
+public class MutationLog implements AutoCloseable {
+
+    private static final int MIN_COMPACTION_RECORDS = 10_000;
+    private static final Object CLOSE = new Object();
+
+    /**
+     * Opens the log file for appending; tests substitute one that fails
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+        FileChannel open(Path file) throws IOException;
+    }
+
+    private final Path file;
+    private final NetEffect state;
+    private final CatalogDelta recovered;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final ChannelOpener opener;
+
+    // Owned by the writer thread once it starts. The channel is null after a failed reopen.
+    private FileChannel channel;
+    private int recordsInFile;
+    private boolean rewriteNeeded = false;
+
+    private MutationLog(Path file, NetEffect state, int recordsInFile, ChannelOpener opener) throws IOException {
+        this.file = file;
+        this.state = state;
+        this.recovered = state.toDelta();
+        this.recordsInFile = recordsInFile;
+        this.opener = opener;
+        this.channel = opener.open(file);
+
+        this.writer = new Thread(this::writeLoop, "mutation-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Open a log, creating it if needed, and replay what it already holds
+     * @param file Log file
+     * @return The open log; see getRecovered() for the mutations it held
+     * @throws IOException if the file cannot be read or opened for writing
+     */
+    public static MutationLog open(Path file) throws IOException {
+        return open(file, path -> FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND));
+    }
+
+    static MutationLog open(Path file, ChannelOpener opener) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        NetEffect state = new NetEffect();
+        int records = 0;
+        boolean torn = false;
+
+        if (Files.isRegularFile(file)) {
+            torn = !endsWithNewline(file);
+            PokemonCSVParser parser = new PokemonCSVParser(false);
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                // Each line is applied once the next one is read, so a torn last line can be left out
+                String pending = reader.readLine();
+                int lineNumber = 0;
+                while (pending != null) {
+                    String line = reader.readLine();
+                    lineNumber++;
+                    if ((line != null || !torn) && state.apply(pending, parser, lineNumber)) {
+                        records++;
+                    }
+                    pending = line;
+                }
+            }
+        }
+
+        // Start from a compact file if replay found dead records or a torn tail
+        if (torn || records > state.size()) {
+            rewrite(file, state);
+            records = state.size();
+        }
+        return new MutationLog(file, state, records, opener);
+    }
+
+    /**
+     * @return The net effect of the log when it was opened, to apply to the base catalog
+     */
+    public CatalogDelta getRecovered() {
+        return recovered;
+    }
+
+    public void logRemove(String name) {
+        queue.add("-\t" + name);
+    }
+
+    public void logInsert(Pokemon pokemon) {
+        queue.add("+\t" + PokemonCSVParser.format(pokemon));
+    }
+
+    public void logUpdate(Pokemon pokemon) {
+        queue.add("~\t" + PokemonCSVParser.format(pokemon));
+    }
+
+    /**
+     * @return Completes once every mutation logged before this call is on disk, or
+     *         exceptionally if writing them failed
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(done);
+        return done;
+    }
+
+    /**
+     * Write out everything logged so far, then stop the writer and close the file
+     */
+    @Override
+    public void close() {
+        queue.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+
+            StringBuilder lines = new StringBuilder();
+            List<CompletableFuture<Void>> flushed = new ArrayList<>();
+            int count = 0;
+            for (Object item : batch) {
+                if (item == CLOSE) {
+                    closing = true;
+                } else if (item instanceof CompletableFuture<?> future) {
+                    flushed.add((CompletableFuture<Void>) future);
+                } else {
+                    String line = (String) item;
+                    state.apply(line, null, 0);
+                    lines.append(line).append('\n');
+                    count++;
+                }
+            }
+            batch.clear();
+
+            try {
+                if (rewriteNeeded || channel == null) {
+                    // The state already holds this batch, so the rewrite writes it too
+                    compact();
+                    rewriteNeeded = false;
+                } else if (count > 0) {
+                    ByteBuffer bytes = StandardCharsets.UTF_8.encode(lines.toString());
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                    channel.force(false);
+                    recordsInFile += count;
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error writing mutation log " + file + ": " + e.getMessage());
+                rewriteNeeded = true;
+                flushed.forEach(future -> future.completeExceptionally(e));
+                continue;
+            }
+
+            if (recordsInFile >= MIN_COMPACTION_RECORDS && recordsInFile > 2 * state.size()) {
+                try {
+                    compact();
+                } catch (IOException | RuntimeException e) {
+                    // The records are on disk already, only the file stays long
+                    System.err.println("Error compacting mutation log " + file + ": " + e.getMessage());
+                }
+            }
+            flushed.forEach(future -> future.complete(null));
+        }
+
+        closeChannel();
+    }
+
+    // Rewrite the file, then switch to appending to the new file. If the rewrite fails
+    // the old file and channel are untouched.
+    private void compact() throws IOException {
+        rewrite(file, state);
+        recordsInFile = state.size();
+        closeChannel(); // It still points at the replaced file
+        channel = opener.open(file);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing mutation log: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    // Replace the file with the net effect, atomically
+    private static void rewrite(Path file, NetEffect state) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                StringBuilder lines = new StringBuilder();
+                for (String line : state.lines()) {
+                    lines.append(line).append('\n');
+                }
+                ByteBuffer bytes = StandardCharsets.UTF_8.encode(lines.toString());
+                while (bytes.hasRemaining()) {
+                    out.write(bytes);
+                }
+                out.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Net effect of a sequence of mutations. Names compare ignoring case, the
+     * same way removePokemon matches them.
+     */
+    private static final class NetEffect {
+        // Removed name -> the removal line
+        private final Map<String, String> removed = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        // Name -> latest update line for cards that existed before the log
+        private final Map<String, String> updates = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        // Insert lines in log order; null once a later removal cancels them
+        private final List<String> inserts = new ArrayList<>();
+        private final Map<String, List<Integer>> insertsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private int liveInserts = 0;
+
+        /**
+         * Fold one line into the state
+         * @param parser Checks rows when replaying; null for lines this process wrote
+         * @return false if the line is not a valid mutation and was skipped
+         */
+        boolean apply(String line, PokemonCSVParser parser, int lineNumber) {
+            if (line.length() < 2 || line.charAt(1) != '\t') {
+                return false;
+            }
+            char operation = line.charAt(0);
+            String body = line.substring(2);
+            if (operation == '-') {
+                removed.put(body, line);
+                updates.remove(body);
+                List<Integer> cancelled = insertsByName.remove(body);
+                if (cancelled != null) {
+                    for (int index : cancelled) {
+                        inserts.set(index, null);
+                    }
+                    liveInserts -= cancelled.size();
+                }
+                return true;
+            }
+            if (operation != '+' && operation != '~') {
+                return false;
+            }
+
+            String name;
+            if (parser != null) {
+                try {
+                    name = parser.parse(body, lineNumber).getName();
+                } catch (CSVParseException e) {
+                    System.err.println("Skipping mutation log line " + lineNumber + ": " + e.getMessage());
+                    return false;
+                }
+            } else {
+                name = body.substring(0, body.indexOf(','));
+            }
+
+            if (operation == '+') {
+                insertsByName.computeIfAbsent(name, n -> new ArrayList<>()).add(inserts.size());
+                inserts.add(line);
+                liveInserts++;
+            } else {
+                // Cards inserted by the log take the new values in place
+                for (int index : insertsByName.getOrDefault(name, List.of())) {
+                    inserts.set(index, "+\t" + body);
+                }
+                if (!removed.containsKey(name)) {
+                    updates.put(name, line);
+                }
+            }
+            return true;
+        }
+
+        // Number of lines in a compacted log
+        int size() {
+            return removed.size() + updates.size() + liveInserts;
+        }
+
+        // Removals and updates concern cards that existed before the log, so they come first
+        List<String> lines() {
+            List<String> lines = new ArrayList<>(removed.values());
+            lines.addAll(updates.values());
+            for (String line : inserts) {
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+            return lines;
+        }
+
+        CatalogDelta toDelta() {
+            PokemonCSVParser parser = new PokemonCSVParser(false);
+            List<Pokemon> inserted = new ArrayList<>(liveInserts);
+            for (String line : inserts) {
+                if (line != null) {
+                    inserted.add(parser.parse(line.substring(2), 0));
+                }
+            }
+            PokemonFactory.assignInstanceIds(inserted);
+            List<Pokemon> updated = new ArrayList<>(updates.size());
+            for (String line : updates.values()) {
+                updated.add(parser.parse(line.substring(2), 0));
+            }
+            List<String> names = new ArrayList<>(removed.size());
+            for (String line : removed.values()) {
+                names.add(line.substring(2));
+            }
+            return CatalogDelta.of(inserted, updated, names);
+        }
+    }
+}
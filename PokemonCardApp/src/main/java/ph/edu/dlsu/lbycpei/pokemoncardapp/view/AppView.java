@@ -1,15 +1,21 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.view;
 
+import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.layout.*;
 import javafx.scene.control.*;
 import javafx.stage.Screen;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public class AppView {
     private BorderPane root;
     private StackPane cardPanel;
     private MenuPanel menuPanel;
+    private Consumer<Pokemon> onFindSimilar; // null until the controller sets it
+    private PokemonCardView cardView; // built on the first card, then rebound to each new one
 
     private double screenHeight;
 
@@ -52,17 +58,59 @@ public class AppView {
     }
 
     public void displayPokemonCard(Pokemon pokemon) {
-        cardPanel.getChildren().clear(); // clear prior prompt message
-
         if (pokemon == null) {
+            cardPanel.getChildren().clear(); // clear prior prompt message
             Label noDataLabel = new Label("No Pokemon data available");
             noDataLabel.getStyleClass().add("no-data-label");
             cardPanel.getChildren().add(noDataLabel);
             return;
         }
 
-        PokemonCardView pokemonCardView = new PokemonCardView(pokemon);
-        cardPanel.getChildren().add(pokemonCardView.getCard());
+        // Reuse the card's nodes; only swap panel children when something else is showing
+        if (cardView == null) {
+            cardView = new PokemonCardView(pokemon, onFindSimilar);
+        } else {
+            cardView.setPokemon(pokemon);
+        }
+        if (cardPanel.getChildren().size() != 1 || cardPanel.getChildren().get(0) != cardView.getCard()) {
+            cardPanel.getChildren().setAll(cardView.getCard());
+        }
+    }
+
+    // The Pokemon whose card is showing, or null if a message or list is showing instead
+    public Pokemon getDisplayedPokemon() {
+        boolean showing = cardView != null && cardPanel.getChildren().size() == 1
+                && cardPanel.getChildren().get(0) == cardView.getCard();
+        return showing ? cardView.getPokemon() : null;
+    }
+
+    // Lists the cards most like the given one; picking a name shows that card
+    public void showSimilarCards(Pokemon pokemon, List<Pokemon> similar, Consumer<Pokemon> onPick) {
+        cardPanel.getChildren().clear();
+        if (similar.isEmpty()) {
+            showMessage("No other Pokemon to compare with " + pokemon.getName() + ".");
+            return;
+        }
+
+        Label titleLabel = new Label("Pokemon similar to " + pokemon.getName() + ":");
+        titleLabel.getStyleClass().add("message-label");
+        VBox list = new VBox(10, titleLabel);
+        list.setAlignment(Pos.CENTER);
+        list.setMaxWidth(450);
+        for (Pokemon match : similar) {
+            Button matchBtn = new Button(match.getName() + " (" + match.getType() + ")");
+            matchBtn.getStyleClass().add("action-button");
+            matchBtn.setMaxWidth(Double.MAX_VALUE);
+            matchBtn.setOnAction(e -> onPick.accept(match));
+            list.getChildren().add(matchBtn);
+        }
+        cardPanel.getChildren().add(list);
+    }
+
+    // Adds a "Find Similar" button to every card shown from now on
+    public void setOnFindSimilar(Consumer<Pokemon> onFindSimilar) {
+        this.onFindSimilar = onFindSimilar;
+        cardView = null; // the next card is built with the new button handler
     }
 
     // Shows app prompt messages
@@ -73,6 +121,15 @@ public class AppView {
         cardPanel.getChildren().add(messageLabel);
     }
 
+    // Search-as-you-type drop-down under the search field
+    public void showSearchSuggestions(List<String> names, Consumer<String> onPick) {
+        menuPanel.showSearchSuggestions(names, onPick);
+    }
+
+    public void hideSearchSuggestions() {
+        menuPanel.hideSearchSuggestions();
+    }
+
     // Getters for controller access
     public BorderPane getRoot() { return root; }
     public Button getViewRandomBtn() { return  menuPanel.getViewRandomBtn(); }
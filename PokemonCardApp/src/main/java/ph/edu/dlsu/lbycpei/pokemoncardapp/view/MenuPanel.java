@@ -12,7 +12,9 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.config.AppConfig;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public class MenuPanel {
 
@@ -135,4 +137,12 @@ public class MenuPanel {
     public TextField getRemoveField() {
         return removePanel.getRemoveField();
     }
+
+    public void showSearchSuggestions(List<String> names, Consumer<String> onPick) {
+        searchPanel.showSuggestions(names, onPick);
+    }
+
+    public void hideSearchSuggestions() {
+        searchPanel.hideSuggestions();
+    }
 }
@@ -1,9 +1,13 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.view;
 
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
 import javafx.scene.image.Image;
@@ -19,8 +23,15 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.config.AppConfig;
 import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonType;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.utils.LruCache;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * PokemonCardView - A JavaFX component that creates a visual Pokemon trading card.
@@ -35,9 +46,36 @@ import java.util.Objects;
  * The card automatically styles itself based on the Pokemon's type and includes
  * proper error handling for missing images.
  *
+ * The nodes are built once. Showing another Pokemon with setPokemon only changes
+ * texts, images, bar values and styles, so browsing cards quickly does not rebuild
+ * the scene graph or re-apply CSS to new nodes.
+ *
  */
 public class PokemonCardView {
 
+    private static final String CARD_STYLE_SUFFIX =
+            "; -fx-background-radius: 20; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.3), 10, 0, 0, 5);";
+
+    /**
+     * Decoded Pokemon images shared by every card, keyed by lower-cased name.
+     * Decoding a GIF costs far more than showing it, so a card seen before is
+     * shown from memory. JavaFX keeps every frame of an animated GIF decoded, so
+     * an image is weighed as 4 bytes per pixel times its frame count. Names with
+     * no usable image are cached too, so a missing sprite is looked up once.
+     * The budget and soft references are set with system properties.
+     */
+    private static final LruCache<String, Sprite> IMAGE_CACHE = new LruCache<>(
+            Integer.getInteger(AppConfig.IMAGE_CACHE_MB_PROPERTY, AppConfig.DEFAULT_IMAGE_CACHE_MB) * 1024L * 1024L,
+            Boolean.getBoolean(AppConfig.IMAGE_CACHE_SOFT_PROPERTY),
+            Sprite::bytes);
+
+    /**
+     * Placeholder images, drawn on first use for each primary type. A placeholder
+     * only depends on the type's background, so one snapshot serves every card of
+     * that type. Only touched on the JavaFX thread, where snapshots are taken.
+     */
+    private static final Map<PokemonType, Image> PLACEHOLDERS = new EnumMap<>(PokemonType.class);
+
     /**
      * The main container for the Pokemon card.
      * This VBox holds all the card components in a vertical layout.
@@ -45,6 +83,24 @@ public class PokemonCardView {
      */
     private final VBox card;
 
+    // Components filled in by setPokemon
+    private final Label pokemonNumber;
+    private final ImageView pokemonImage;
+    private final Label nameLabel;
+    private final StackPane typeBox;
+    private final Label typeLabel; // Shown for single-type Pokemon
+    private final HBox dualTypeBox; // Shown for dual-type Pokemon
+    private final Label type1;
+    private final Label type2;
+    private final Label weightLabel;
+    private final Label heightLabel;
+    private final Label powerLabel;
+    private final StatBar attackBar;
+    private final StatBar defenseBar;
+    private final StatBar staminaBar;
+
+    private Pokemon pokemon;
+
     /**
      * Creates a new Pokemon card view for the specified Pokemon.
      *
@@ -57,6 +113,18 @@ public class PokemonCardView {
      * @throws NullPointerException if pokemon is null
      */
     public PokemonCardView(Pokemon pokemon) {
+        this(pokemon, null);
+    }
+
+    /**
+     * Creates a card with a "Find Similar" button below the stats.
+     *
+     * @param pokemon The Pokemon object containing all the data to display
+     * @param onFindSimilar Called with the shown Pokemon when the button is pressed;
+     *                      null leaves the button out
+     * @throws NullPointerException if pokemon is null
+     */
+    public PokemonCardView(Pokemon pokemon, Consumer<Pokemon> onFindSimilar) {
         // Initialize the main card container
         card = new VBox(15); // 15px spacing between child elements
         card.getStyleClass().add("pokemon-card"); // CSS class for styling
@@ -65,19 +133,34 @@ public class PokemonCardView {
         card.setMaxWidth(450); // Maximum card width (May vary accdg. to resolution)
         card.setMaxHeight(680); // Maximum card height (May vary accdg. to resolution)
 
-        // Set dynamic background color based on Pokemon type
-        // This creates a rounded card with drop shadow effect
-        card.setStyle("-fx-background-color: " + pokemon.getTypeBackground() +
-                "; -fx-background-radius: 20; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.3), 10, 0, 0, 5);");
-
         // Create all card components in order from top to bottom
-        Label pokemonNumber = createPokemonNumber(pokemon.getInstanceId());
-        ImageView pokemonImage = createPokemonImage(pokemon);
-        Label nameLabel = new Label(pokemon.getName());
+        pokemonNumber = createPokemonNumber();
+        pokemonImage = createPokemonImage();
+        nameLabel = new Label();
         nameLabel.getStyleClass().add("pokemon-name");
-        StackPane typeBox = createTypeBox(pokemon);
-        VBox basicInfo = createBasicInfo(pokemon);
-        VBox statsBox = createStatsBox(pokemon);
+
+        typeLabel = createTypeLabel();
+        typeLabel.setMaxWidth(Double.MAX_VALUE);
+        typeLabel.setPadding(new Insets(10, 20, 10, 20));
+        type1 = createTypeLabel();
+        type2 = createTypeLabel();
+        dualTypeBox = createDualTypeBox();
+        typeBox = new StackPane();
+        typeBox.setPrefWidth(500);
+
+        weightLabel = new Label();
+        weightLabel.getStyleClass().add("info-label");
+        heightLabel = new Label();
+        heightLabel.getStyleClass().add("info-label");
+        powerLabel = new Label();
+        powerLabel.getStyleClass().add("power-label");
+        VBox basicInfo = new VBox(10, weightLabel, heightLabel, powerLabel);
+        basicInfo.setAlignment(Pos.CENTER);
+
+        attackBar = new StatBar("ATTACK", Color.RED);
+        defenseBar = new StatBar("DEFENSE", Color.DODGERBLUE);
+        staminaBar = new StatBar("STAMINA", Color.LIMEGREEN);
+        VBox statsBox = createStatsBox();
 
         // Add all components to the card with separators for visual organization
         card.getChildren().addAll(
@@ -92,97 +175,130 @@ public class PokemonCardView {
                 statsBox,
                 new Separator()
         );
+
+        if (onFindSimilar != null) {
+            Button similarBtn = new Button("Find Similar");
+            similarBtn.getStyleClass().add("action-button");
+            similarBtn.setOnAction(e -> onFindSimilar.accept(this.pokemon));
+            card.getChildren().add(similarBtn);
+        }
+
+        setPokemon(pokemon);
     }
 
     /**
-     * Creates the Pokemon type display box.
-     *
-     * This method handles both single-type and dual-type Pokemon:
-     * - Single type: Shows one colored rectangle with type name
-     * - Dual type: Shows two colored rectangles side by side with both type names
+     * Shows another Pokemon on this card.
      *
-     * The colors are automatically determined by the Pokemon's type(s).
+     * Every component keeps its node; only its text, image, bar value or
+     * background style is updated. Styles are only replaced when the type
+     * changes, so JavaFX does not re-parse them for every card.
      *
-     * @param pokemon The Pokemon whose type(s) to display
-     * @return A StackPane containing the type display elements
+     * @param pokemon The Pokemon to display
+     * @throws NullPointerException if pokemon is null
      */
-    private StackPane createTypeBox(Pokemon pokemon) {
-        StackPane pane = new StackPane();
-        double totalWidth = 500;
-        pane.setPrefWidth(totalWidth);
-
-        String[] types = pokemon.getType().split("-");
+    public final void setPokemon(Pokemon pokemon) {
+        this.pokemon = Objects.requireNonNull(pokemon);
 
-        if (types.length == 1) {
-            Label typeLabel = new Label(types[0].toUpperCase());
-            typeLabel.getStyleClass().add("pokemon-type");
-            typeLabel.setAlignment(Pos.CENTER);
-            typeLabel.setMaxWidth(Double.MAX_VALUE);
-            typeLabel.setPadding(new Insets(10, 20, 10, 20));
-            typeLabel.setStyle("-fx-background-color: " + pokemon.getTypeBackground() + ";");
-            pane.getChildren().add(typeLabel);
-
-        } else if (types.length == 2) {
-            Label type1 = new Label(types[0]);
-            Label type2 = new Label(types[1]);
+        // Set dynamic background color based on Pokemon type
+        // This creates a rounded card with drop shadow effect
+        setBackground(card, pokemon.getTypeBackground(), CARD_STYLE_SUFFIX);
 
-            type1.getStyleClass().add("pokemon-type");
-            type2.getStyleClass().add("pokemon-type");
+        pokemonNumber.setText(String.format("#%03d", pokemon.getInstanceId()));
+        showPokemonImage(pokemon);
+        nameLabel.setText(pokemon.getName());
+        showTypes(pokemon);
 
-            type1.setAlignment(Pos.CENTER);
-            type2.setAlignment(Pos.CENTER);
+        weightLabel.setText("Weight: " + pokemon.getWeight());
+        heightLabel.setText("Height: " + pokemon.getHeight());
+        powerLabel.setText("Power Level: " + String.format("%.1f", pokemon.calculatePowerLevel()));
 
-            type1.setPrefWidth(totalWidth / 2);
-            type2.setPrefWidth(totalWidth / 2);
+        attackBar.setValue(pokemon.getAttack());
+        defenseBar.setValue(pokemon.getDefense());
+        staminaBar.setValue(pokemon.getStamina());
+    }
 
-            type1.setPadding(new Insets(10));
-            type2.setPadding(new Insets(10));
+    /**
+     * @return The Pokemon currently shown on the card
+     */
+    public Pokemon getPokemon() {
+        return pokemon;
+    }
 
-            type1.setStyle("-fx-background-color: " + pokemon.getTypeBackground() + ";");
-            type2.setStyle("-fx-background-color: " + pokemon.getSecondBackground() + ";");
+    /**
+     * Updates the Pokemon type display box.
+     *
+     * This method handles both single-type and dual-type Pokemon:
+     * - Single type: Shows one colored rectangle with type name
+     * - Dual type: Shows two colored rectangles side by side with both type names
+     *
+     * The colors are automatically determined by the Pokemon's type(s).
+     * Both layouts are built once; the box only switches between them.
+     *
+     * @param pokemon The Pokemon whose type(s) to display
+     */
+    private void showTypes(Pokemon pokemon) {
+        if (!pokemon.hasSecondaryType()) {
+            typeLabel.setText(pokemon.getPrimaryType() != PokemonType.UNKNOWN
+                    ? pokemon.getPrimaryType().name() : pokemon.getPrimaryTypeName().toUpperCase());
+            setBackground(typeLabel, pokemon.getTypeBackground(), ";");
+            showInTypeBox(typeLabel);
+
+        } else {
+            type1.setText(pokemon.getPrimaryTypeName());
+            type2.setText(pokemon.getSecondaryTypeName());
+            setBackground(type1, pokemon.getTypeBackground(), ";");
+            setBackground(type2, pokemon.getSecondBackground(), ";");
+            showInTypeBox(dualTypeBox);
+        }
+    }
 
-            HBox hbox = new HBox(type1, type2);
-            hbox.setMaxWidth(totalWidth);
-            hbox.setSpacing(0);
-            HBox.setHgrow(type1, Priority.ALWAYS);
-            HBox.setHgrow(type2, Priority.ALWAYS);
+    // Swaps the type box content only when switching between single and dual type
+    private void showInTypeBox(Node content) {
+        if (typeBox.getChildren().size() != 1 || typeBox.getChildren().get(0) != content) {
+            typeBox.getChildren().setAll(content);
+        }
+    }
 
-            pane.getChildren().add(hbox);
+    // Replaces a node's inline style only when the background actually changes
+    private static void setBackground(Node node, String background, String suffix) {
+        String style = "-fx-background-color: " + background + suffix;
+        if (!style.equals(node.getStyle())) {
+            node.setStyle(style);
         }
-        return pane;
     }
 
     /**
-     * Creates the basic information section of the Pokemon card.
-     *
-     * This section displays:
-     * - Pokemon weight in kilograms
-     * - Pokemon height in meters
-     * - Calculated power level (computed from stats)
+     * Creates a centered label for one type name.
      *
-     * @param pokemon The Pokemon whose basic info to display
-     * @return A VBox containing the formatted basic information labels
+     * @return A styled, empty type label
      */
-    private VBox createBasicInfo(Pokemon pokemon) {
-        VBox basicInfo = new VBox(10);
-        basicInfo.setAlignment(Pos.CENTER);
-
-        Label weightLabel = new Label("Weight: " + pokemon.getWeight());
-        weightLabel.getStyleClass().add("info-label");
+    private Label createTypeLabel() {
+        Label label = new Label();
+        label.getStyleClass().add("pokemon-type");
+        label.setAlignment(Pos.CENTER);
+        return label;
+    }
 
-        Label heightLabel = new Label("Height: " + pokemon.getHeight());
-        heightLabel.getStyleClass().add("info-label");
+    /**
+     * Creates the side-by-side layout for dual-type Pokemon.
+     *
+     * @return An HBox holding the two type labels at half width each
+     */
+    private HBox createDualTypeBox() {
+        double totalWidth = 500;
 
-        double attack = pokemon.getAttack();
-        double defense = pokemon.getDefense();
-        double stamina = pokemon.getStamina();
-        double power = (attack + defense + stamina) * 100;
+        type1.setPrefWidth(totalWidth / 2);
+        type2.setPrefWidth(totalWidth / 2);
 
-        Label powerLabel = new Label("Power Level: " + String.format("%.1f", power));
-        powerLabel.getStyleClass().add("power-label");
+        type1.setPadding(new Insets(10));
+        type2.setPadding(new Insets(10));
 
-        basicInfo.getChildren().addAll(weightLabel, heightLabel, powerLabel);
-        return basicInfo;
+        HBox hbox = new HBox(type1, type2);
+        hbox.setMaxWidth(totalWidth);
+        hbox.setSpacing(0);
+        HBox.setHgrow(type1, Priority.ALWAYS);
+        HBox.setHgrow(type2, Priority.ALWAYS);
+        return hbox;
     }
 
     /**
@@ -191,11 +307,10 @@ public class PokemonCardView {
      * The number is formatted with a leading zero and hash symbol.
      * This label is left-aligned within the card layout.
      *
-     * @param id The Pokemon's instance ID number
-     * @return A formatted Label displaying the Pokemon number
+     * @return An empty Label for the Pokemon number
      */
-    private Label createPokemonNumber(int id) {
-        Label pokemonNumber = new Label(String.format("#%03d", id));
+    private Label createPokemonNumber() {
+        Label pokemonNumber = new Label();
         pokemonNumber.getStyleClass().add("pokemon-number");
 
         // Wrap in HBox for proper alignment
@@ -210,42 +325,123 @@ public class PokemonCardView {
     }
 
     /**
-     * Creates and loads the Pokemon image display.
+     * Creates the Pokemon image display.
+     *
+     * The ImageView is sized once and given a drop shadow; showPokemonImage
+     * puts the picture of each Pokemon into it.
+     *
+     * @return An empty ImageView
+     */
+    private ImageView createPokemonImage() {
+        ImageView imageView = new ImageView();
+        imageView.setFitWidth(180);
+        imageView.setFitHeight(180);
+
+        // Add visual effect to the final image
+        imageView.setEffect(new javafx.scene.effect.DropShadow(8, Color.BLACK));
+        return imageView;
+    }
+
+    /**
+     * Loads the Pokemon image into the card's ImageView.
      *
      * This method attempts to load a Pokemon GIF image from resources.
      * If the image cannot be loaded, it creates a styled placeholder instead.
      *
      * The image loading process:
-     * 1. Try to load Pokemon-specific GIF from resources
-     * 2. If loading fails, create a colored placeholder
-     * 3. Apply drop shadow effect for visual appeal
+     * 1. Look up the decoded image in the shared image cache
+     * 2. On a miss, load the Pokemon-specific GIF from resources and cache it
+     * 3. If loading fails, use the colored placeholder for the Pokemon's type
      *
      * @param pokemon The Pokemon whose image to load
-     * @return An ImageView containing either the Pokemon image or a placeholder
      */
-    private ImageView createPokemonImage(Pokemon pokemon) {
-        ImageView imageView = new ImageView();
-        try {
-            String imgPath = "/images/" + pokemon.getName().toLowerCase() + ".gif";
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(imgPath)));
+    private void showPokemonImage(Pokemon pokemon) {
+        Image image = IMAGE_CACHE.get(pokemon.getName().toLowerCase(), this::loadImage).image();
+        // Missing or broken images are cached as Sprite.MISSING, use placeholder
+        pokemonImage.setImage(image != null ? image
+                : PLACEHOLDERS.computeIfAbsent(pokemon.getPrimaryType(), this::createPlaceholderImage));
+    }
 
+    /**
+     * Decodes a Pokemon GIF from resources.
+     *
+     * @param name The lower-cased Pokemon name
+     * @return The decoded image, or Sprite.MISSING if it is missing or cannot be decoded
+     */
+    private Sprite loadImage(String name) {
+        String imgPath = AppConfig.IMAGE_DIR + name + AppConfig.IMAGE_EXT;
+        try (InputStream in = getClass().getResourceAsStream(imgPath)) {
+            if (in == null) {
+                return Sprite.MISSING;
+            }
+            byte[] gif = in.readAllBytes();
+            Image image = new Image(new ByteArrayInputStream(gif));
             if (image.isError()) {
-                // Image failed to load, use placeholder
-                imageView = createPlaceholderImage(pokemon);
-            } else {
-                // Image loaded successfully
-                imageView.setImage(image);
-                imageView.setFitWidth(180);
-                imageView.setFitHeight(180);
+                return Sprite.MISSING;
             }
+            long frameBytes = (long) (image.getWidth() * image.getHeight() * 4);
+            return new Sprite(image, frameBytes * countGifFrames(gif));
         } catch (Exception e) {
-            // Exception occurred during loading, use placeholder
-            imageView = createPlaceholderImage(pokemon);
+            // Exception occurred during loading
+            return Sprite.MISSING;
         }
+    }
 
-        // Add visual effect to the final image
-        imageView.setEffect(new javafx.scene.effect.DropShadow(8, Color.BLACK));
-        return imageView;
+    /**
+     * Counts the frames of a GIF by walking its blocks, without decoding them.
+     *
+     * @param gif The GIF file
+     * @return The number of image descriptors, at least 1
+     */
+    private static int countGifFrames(byte[] gif) {
+        if (gif.length < 13) {
+            return 1;
+        }
+        int position = 13; // Header and logical screen descriptor
+        if ((gif[10] & 0x80) != 0) {
+            position += 3 << ((gif[10] & 0x07) + 1); // Global color table
+        }
+        int frames = 0;
+        while (position < gif.length) {
+            int block = gif[position++] & 0xFF;
+            if (block == 0x2C) { // Image descriptor, then the frame's LZW data
+                frames++;
+                if (position + 9 > gif.length) {
+                    break;
+                }
+                int packed = gif[position + 8] & 0xFF;
+                position += 9;
+                if ((packed & 0x80) != 0) {
+                    position += 3 << ((packed & 0x07) + 1); // Local color table
+                }
+                position = skipSubBlocks(gif, position + 1); // After the LZW minimum code size
+            } else if (block == 0x21) { // Extension: label, then data sub-blocks
+                position = skipSubBlocks(gif, position + 1);
+            } else {
+                break; // Trailer, or a damaged file
+            }
+        }
+        return Math.max(1, frames);
+    }
+
+    // Position after a chain of length-prefixed sub-blocks ending with an empty one
+    private static int skipSubBlocks(byte[] gif, int position) {
+        while (position < gif.length) {
+            int length = gif[position++] & 0xFF;
+            if (length == 0) {
+                break;
+            }
+            position += length;
+        }
+        return position;
+    }
+
+    /**
+     * A cached image and its estimated size. A name without a usable image maps
+     * to MISSING, which weighs a little so that many of them still count.
+     */
+    private record Sprite(Image image, long bytes) {
+        static final Sprite MISSING = new Sprite(null, 64);
     }
 
     /**
@@ -255,20 +451,16 @@ public class PokemonCardView {
      * with "No Image" text in the center. This provides a consistent visual
      * experience even when images are missing.
      *
-     * @param pokemon The Pokemon for which to create a placeholder
-     * @return An ImageView containing the generated placeholder image
+     * @param type The primary type whose color to use
+     * @return The generated placeholder image
      */
-    private ImageView createPlaceholderImage(Pokemon pokemon) {
-        ImageView placeholder = new ImageView();
-        placeholder.setFitWidth(180);
-        placeholder.setFitHeight(180);
-
+    private Image createPlaceholderImage(PokemonType type) {
         // Create a canvas to draw the placeholder
         Canvas canvas = new Canvas(180, 180);
         GraphicsContext gc = canvas.getGraphicsContext2D();
 
         // Draw a colored circle background
-        gc.setFill(Paint.valueOf(pokemon.getTypeBackground()));
+        gc.setFill(Paint.valueOf(type.getBackground()));
         gc.fillOval(10, 10, 160, 160); // 10px margin from edges
 
         // Draw "No Image" text in white
@@ -280,10 +472,7 @@ public class PokemonCardView {
         // Convert the canvas drawing to an image
         javafx.scene.SnapshotParameters params = new javafx.scene.SnapshotParameters();
         params.setFill(Color.TRANSPARENT); // Transparent background
-        Image placeholderImage = canvas.snapshot(params, null);
-
-        placeholder.setImage(placeholderImage);
-        return placeholder;
+        return canvas.snapshot(params, null);
     }
 
     /**
@@ -297,23 +486,22 @@ public class PokemonCardView {
      * Each statistic is displayed with both numerical value and a colored
      * progress bar that visually represents the stat's strength.
      *
-     * @param pokemon The Pokemon whose stats to display
      * @return A VBox containing all three stat bars
      */
-    private VBox createStatsBox(Pokemon pokemon) {
+    private VBox createStatsBox() {
         VBox statsBox = new VBox(12); // 12px spacing between stat bars
         statsBox.setAlignment(Pos.CENTER);
 
-        VBox attackBox = new VBox(createStatBar("ATTACK", pokemon.getAttack(), Color.RED));
-        VBox defenseBox = new VBox(createStatBar("DEFENSE", pokemon.getDefense(), Color.DODGERBLUE));
-        VBox staminaBox = new VBox(createStatBar("STAMINA", pokemon.getStamina(), Color.LIMEGREEN));
+        VBox attackBox = new VBox(attackBar.getBox());
+        VBox defenseBox = new VBox(defenseBar.getBox());
+        VBox staminaBox = new VBox(staminaBar.getBox());
 
         statsBox.getChildren().addAll(attackBox, defenseBox, staminaBox);
         return statsBox;
     }
 
     /**
-     * Creates an individual statistic bar with label and visual progress indicator.
+     * An individual statistic bar with label and visual progress indicator.
      *
      * Each stat bar consists of:
      * - A text label showing the stat name and numerical value
@@ -321,40 +509,59 @@ public class PokemonCardView {
      * - A colored progress bar showing the stat's relative strength
      *
      * The progress bar is proportional to the stat value, with a maximum of 100%.
-     *
-     * @param statName The name of the statistic (e.g., "ATTACK")
-     * @param value The numerical value of the statistic (0.0 to 1.0)
-     * @param color The color to use for the progress bar
-     * @return A VBox containing the complete stat bar display
+     * Its width is bound once to the background width times a value property,
+     * so showing another Pokemon only sets the value.
      */
-    private VBox createStatBar(String statName, double value, Color color) {
-        VBox statBox = new VBox(5);
-
-        Label label = new Label(statName + ": " + (int) (value * 100));
-        label.getStyleClass().add("stat-label");
-
-        HBox labelContainer = new HBox(label);
-        labelContainer.setAlignment(Pos.CENTER_LEFT); // Align label to left inside HBox
-        labelContainer.setMaxWidth(Double.MAX_VALUE);
-
-        StackPane barBackground = new StackPane();
-        barBackground.setPrefSize(200, 18);
-        barBackground.setStyle("-fx-background-color: #ecf0f1; -fx-background-radius: 10;");
-
-        Rectangle progress = new Rectangle();
-        progress.setHeight(18);
-        progress.setArcWidth(10);
-        progress.setArcHeight(10);
-        progress.setFill(color);
-        progress.widthProperty().bind(barBackground.widthProperty().multiply(value));
-
-        barBackground.getChildren().add(progress);
-        barBackground.setAlignment(Pos.CENTER_LEFT);
+    private static final class StatBar {
+        private final String statName;
+        private final VBox statBox;
+        private final Label label;
+        private final DoubleProperty value = new SimpleDoubleProperty();
+
+        /**
+         * @param statName The name of the statistic (e.g., "ATTACK")
+         * @param color The color to use for the progress bar
+         */
+        StatBar(String statName, Color color) {
+            this.statName = statName;
+            statBox = new VBox(5);
+
+            label = new Label();
+            label.getStyleClass().add("stat-label");
+
+            HBox labelContainer = new HBox(label);
+            labelContainer.setAlignment(Pos.CENTER_LEFT); // Align label to left inside HBox
+            labelContainer.setMaxWidth(Double.MAX_VALUE);
+
+            StackPane barBackground = new StackPane();
+            barBackground.setPrefSize(200, 18);
+            barBackground.setStyle("-fx-background-color: #ecf0f1; -fx-background-radius: 10;");
+
+            Rectangle progress = new Rectangle();
+            progress.setHeight(18);
+            progress.setArcWidth(10);
+            progress.setArcHeight(10);
+            progress.setFill(color);
+            progress.widthProperty().bind(barBackground.widthProperty().multiply(value));
+
+            barBackground.getChildren().add(progress);
+            barBackground.setAlignment(Pos.CENTER_LEFT);
+
+            statBox.getChildren().addAll(labelContainer, barBackground);
+            statBox.setAlignment(Pos.CENTER);
+        }
 
-        statBox.getChildren().addAll(labelContainer, barBackground);
-        statBox.setAlignment(Pos.CENTER);
+        /**
+         * @param value The numerical value of the statistic (0.0 to 1.0)
+         */
+        void setValue(double value) {
+            label.setText(statName + ": " + (int) (value * 100));
+            this.value.set(value);
+        }
 
-        return statBox;
+        VBox getBox() {
+            return statBox;
+        }
     }
 
     /**
@@ -369,4 +576,4 @@ public class PokemonCardView {
     public VBox getCard() {
         return card;
     }
-}
\ No newline at end of file
+}
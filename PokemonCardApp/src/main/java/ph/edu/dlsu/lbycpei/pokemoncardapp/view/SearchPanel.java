@@ -1,16 +1,24 @@
 package ph.edu.dlsu.lbycpei.pokemoncardapp.view;
 
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 public class SearchPanel {
 
     private final VBox panel;
     private final TextField searchField;
     private final Button searchBtn;
+    private final ContextMenu suggestionsMenu;
 
     public SearchPanel() {
         // Search section
@@ -24,10 +32,43 @@ public class SearchPanel {
         VBox.setVgrow(searchBtn, Priority.ALWAYS);
         searchBtn.setMaxWidth(Double.MAX_VALUE);
 
+        suggestionsMenu = new ContextMenu();
+        searchField.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                suggestionsMenu.hide();
+            }
+        });
+
         panel = new VBox(20);
         panel.getChildren().addAll(searchLabel, searchField, searchBtn);
     }
 
+    /**
+     * Show name suggestions in a drop-down below the search field
+     * @param names Suggestions, best first; an empty list hides the drop-down
+     * @param onPick Called with the suggestion the user picks
+     */
+    public void showSuggestions(List<String> names, Consumer<String> onPick) {
+        if (names.isEmpty() || !searchField.isFocused()) {
+            suggestionsMenu.hide();
+            return;
+        }
+        List<MenuItem> items = new ArrayList<>(names.size());
+        for (String name : names) {
+            MenuItem item = new MenuItem(name);
+            item.setOnAction(e -> onPick.accept(name));
+            items.add(item);
+        }
+        suggestionsMenu.getItems().setAll(items);
+        if (!suggestionsMenu.isShowing()) {
+            suggestionsMenu.show(searchField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    public void hideSuggestions() {
+        suggestionsMenu.hide();
+    }
+
     public TextField getSearchField() {
         return searchField;
     }
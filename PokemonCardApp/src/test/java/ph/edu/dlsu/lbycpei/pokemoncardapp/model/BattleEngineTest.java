@@ -0,0 +1,111 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.randomCard;
+
+class BattleEngineTest {
+
+    private static final String[] TYPES = {"Normal", "Ghost", "Electric", "Ground", "Fire-Flying", "Water-Ground",
+            "Dragon-Fairy", "Cosmic"};
+
+    private static Pokemon fighter(int id, double stat, String type) {
+        return card(id, 1.0, 1.0, stat, stat, stat, type);
+    }
+
+    @Test
+    void typeChartEntries() {
+        assertEquals(2.0, TypeChart.multiplier(PokemonType.FIRE, PokemonType.GRASS));
+        assertEquals(0.5, TypeChart.multiplier(PokemonType.WATER, PokemonType.DRAGON));
+        assertEquals(0.0, TypeChart.multiplier(PokemonType.NORMAL, PokemonType.GHOST));
+        assertEquals(1.0, TypeChart.multiplier(PokemonType.GRASS, PokemonType.ELECTRIC));
+        assertEquals(1.0, TypeChart.multiplier(PokemonType.UNKNOWN, PokemonType.GHOST));
+        assertEquals(1.0, TypeChart.multiplier(PokemonType.FIRE, PokemonType.UNKNOWN));
+
+        // Both of the defender's types count
+        assertEquals(4.0, TypeChart.against(PokemonType.ELECTRIC, fighter(1, 0.5, "Water-Flying")));
+        assertEquals(0.0, TypeChart.against(PokemonType.ELECTRIC, fighter(2, 0.5, "Water-Ground")));
+        assertEquals(0.25, TypeChart.against(PokemonType.FIRE, fighter(3, 0.5, "Water-Rock")));
+    }
+
+    @Test
+    void attackerUsesItsBetterType() {
+        Pokemon fireFlying = fighter(1, 0.5, "Fire-Flying");
+        assertEquals(2.0, BattleEngine.effectiveness(fireFlying, fighter(2, 0.5, "Fighting")));
+        assertEquals(2.0, BattleEngine.effectiveness(fireFlying, fighter(3, 0.5, "Grass")));
+        assertEquals(1.0, BattleEngine.effectiveness(fighter(4, 0.5, "Cosmic"), fireFlying));
+    }
+
+    @Test
+    void winProbabilityFollowsStrengthAndTypes() {
+        Pokemon weak = fighter(1, 0.25, "Normal");
+        Pokemon strong = fighter(2, 0.5, "Normal");
+        // Strengths 1/64 and 1/8
+        assertEquals(1 / 9.0, BattleEngine.winProbability(weak, strong), 1e-12);
+        assertEquals(8 / 9.0, BattleEngine.winProbability(strong, weak), 1e-12);
+        assertEquals(0.5, BattleEngine.winProbability(strong, strong));
+
+        // Water hits Fire twice as hard and takes half, a factor of four
+        Pokemon water = fighter(3, 0.5, "Water");
+        Pokemon fire = fighter(4, 0.5, "Fire");
+        assertEquals(0.8, BattleEngine.winProbability(water, fire), 1e-12);
+    }
+
+    @Test
+    void immunitiesAndZeroStatsAreDecided() {
+        Pokemon electric = fighter(1, 0.9, "Electric");
+        Pokemon ground = fighter(2, 0.1, "Ground");
+        assertEquals(0.0, BattleEngine.winProbability(electric, ground));
+        assertEquals(1.0, BattleEngine.winProbability(ground, electric));
+
+        // Neither can touch the other
+        Pokemon normal = fighter(3, 0.9, "Normal");
+        Pokemon ghost = fighter(4, 0.1, "Ghost");
+        assertEquals(0.5, BattleEngine.winProbability(normal, ghost));
+
+        Pokemon zero = card(5, 1.0, 1.0, 0.8, 0.0, 0.8, "Normal");
+        Pokemon alsoZero = card(6, 1.0, 1.0, 0.0, 0.0, 0.0, "Normal");
+        assertEquals(0.0, BattleEngine.winProbability(zero, normal));
+        assertEquals(1.0, BattleEngine.winProbability(normal, zero));
+        assertEquals(0.5, BattleEngine.winProbability(zero, alsoZero));
+    }
+
+    @Test
+    void matrixMatchesWinProbability() {
+        Random random = new Random(21);
+        List<Pokemon> cards = new ArrayList<>();
+        // More than one tile and not a whole number of them; the stat grid includes zeros
+        for (int id = 0; id < 300; id++) {
+            Pokemon stats = randomCard(id, random);
+            cards.add(card(id, 1.0, 1.0, stats.getAttack(), stats.getDefense(), stats.getStamina(),
+                    TYPES[random.nextInt(TYPES.length)]));
+        }
+
+        BattleMatrix matrix = BattleEngine.winMatrix(cards);
+
+        assertEquals(cards, matrix.getCards());
+        assertEquals(cards.size(), matrix.size());
+        for (int i = 0; i < cards.size(); i++) {
+            assertEquals(0.5f, matrix.get(i, i));
+            for (int j = 0; j < cards.size(); j++) {
+                String cell = "(" + i + ", " + j + ")";
+                assertEquals(BattleEngine.winProbability(cards.get(i), cards.get(j)), matrix.get(i, j), 1e-6, cell);
+                assertEquals(1.0, matrix.get(i, j) + matrix.get(j, i), 1e-6, cell);
+            }
+        }
+
+        double[] wins = matrix.getExpectedWins();
+        double total = 0;
+        for (double w : wins) {
+            total += w;
+        }
+        // Every pair plays once and hands out exactly one win
+        assertEquals(cards.size() * (cards.size() - 1) / 2.0, total, 1e-2);
+    }
+}
@@ -0,0 +1,42 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class CardSamplerTest {
+
+    @Test
+    void neverDrawsCardsWithNonFinitePower() {
+        Pokemon nan = card(1, Double.NaN);
+        Pokemon infinite = card(2, Double.POSITIVE_INFINITY);
+        Pokemon normal = card(3, 0.5);
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, List.of(nan, infinite, normal));
+
+        CardSampler sampler = CardSampler.byPowerLevel(snapshot);
+        for (Pokemon drawn : sampler.draw(1000)) {
+            assertEquals(normal, drawn);
+        }
+    }
+
+    @Test
+    void rejectsInvalidWeights() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, List.of(card(1, 0.5)));
+        assertThrows(IllegalArgumentException.class, () -> CardSampler.weighted(snapshot, p -> Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> CardSampler.weighted(snapshot, p -> -1));
+    }
+
+    @Test
+    void drawsUniformlyWhenEveryWeightIsZero() {
+        Pokemon a = card(1, 0.0);
+        Pokemon b = card(2, 0.0);
+        CardSampler sampler = CardSampler.byPowerLevel(new CatalogSnapshot(1, List.of(a, b)));
+        List<Pokemon> drawn = sampler.draw(1000);
+        long firsts = drawn.stream().filter(p -> p == a).count();
+        assertEquals(500, firsts, 100);
+    }
+}
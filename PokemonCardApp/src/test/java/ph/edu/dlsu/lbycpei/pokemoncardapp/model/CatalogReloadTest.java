@@ -0,0 +1,122 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// What the catalog file watcher does on a reload, without the file system events
+class CatalogReloadTest {
+
+    @TempDir
+    Path dir;
+
+    private final PokemonCSVParser parser = new PokemonCSVParser(false);
+
+    private File write(String... rows) throws IOException {
+        Path file = dir.resolve("cards.csv");
+        Files.write(file, List.of(rows));
+        return file.toFile();
+    }
+
+    private List<Pokemon> parse(String... rows) {
+        List<Pokemon> parsed = new ArrayList<>();
+        for (String row : rows) {
+            parsed.add(parser.parse(row, 0));
+        }
+        return parsed;
+    }
+
+    private static CatalogDelta reload(DuplicatePolicy policy, List<Pokemon> before, List<Pokemon> rows) {
+        return CatalogDelta.between(before, policy.resolve(rows));
+    }
+
+    @Test
+    void reloadDoesNotUndoChangesMadeSinceLoad() throws IOException {
+        String[] rows = {
+                "Alpha,1.0kg,1.0m,0.1,0.1,0.1,Fire",
+                "Beta,2.0kg,1.0m,0.2,0.2,0.2,Water",
+                "Alpha,3.0kg,1.0m,0.3,0.3,0.3,Fire",
+        };
+        PokemonModel model = new PokemonModel(write(rows), DuplicatePolicy.LAST_WINS);
+        List<Pokemon> fileRows = model.getSnapshot().asList();
+        model.removePokemon("Beta");
+        model.insertAll(parse("Gamma,4.0kg,1.0m,0.4,0.4,0.4,Grass"));
+
+        String[] edited = {rows[0], rows[1], rows[2], "Delta,5.0kg,1.0m,0.5,0.5,0.5,Rock"};
+        CatalogDelta delta = reload(DuplicatePolicy.LAST_WINS, fileRows, parse(edited));
+
+        assertEquals(1, delta.getInserted().size());
+        assertTrue(delta.getUpdated().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+
+        model.applyDelta(delta);
+        assertNull(model.searchPokemon("Beta"));
+        assertEquals(3.0, model.searchPokemon("Alpha").getWeight());
+        assertNotNull(model.searchPokemon("Gamma"));
+        assertNotNull(model.searchPokemon("Delta"));
+        assertEquals(3, model.getPokemonCount());
+    }
+
+    @Test
+    void mergedCardsStayMergedWhenOtherRowsChange() throws IOException {
+        String[] rows = {
+                "Alpha,1.0kg,1.0m,0.1,0.1,0.1,Fire",
+                "Alpha,3.0kg,1.0m,0.3,0.3,0.3,Fire",
+                "Beta,2.0kg,1.0m,0.2,0.2,0.2,Water",
+        };
+        PokemonModel model = new PokemonModel(write(rows), DuplicatePolicy.MERGE);
+        List<Pokemon> fileRows = model.getSnapshot().asList();
+        assertEquals(2.0, model.searchPokemon("Alpha").getWeight());
+
+        CatalogDelta delta = reload(DuplicatePolicy.MERGE, fileRows,
+                parse(rows[0], rows[1], "Beta,8.0kg,1.0m,0.2,0.2,0.2,Water"));
+
+        assertEquals(1, delta.getUpdated().size());
+        model.applyDelta(delta);
+        assertEquals(2.0, model.searchPokemon("Alpha").getWeight());
+        assertEquals(8.0, model.searchPokemon("Beta").getWeight());
+    }
+
+    @Test
+    void changedDuplicateRowUpdatesTheResolvedCard() throws IOException {
+        String[] rows = {
+                "Alpha,1.0kg,1.0m,0.1,0.1,0.1,Fire",
+                "Alpha,3.0kg,1.0m,0.3,0.3,0.3,Fire",
+        };
+        PokemonModel model = new PokemonModel(write(rows), DuplicatePolicy.LAST_WINS);
+        List<Pokemon> fileRows = model.getSnapshot().asList();
+        int id = model.searchPokemon("Alpha").getInstanceId();
+
+        model.applyDelta(reload(DuplicatePolicy.LAST_WINS, fileRows,
+                parse(rows[0], "Alpha,5.0kg,1.0m,0.3,0.3,0.3,Fire")));
+
+        assertEquals(5.0, model.searchPokemon("Alpha").getWeight());
+        assertEquals(id, model.searchPokemon("Alpha").getInstanceId());
+        assertEquals(1, model.getPokemonCount());
+    }
+
+    @Test
+    void insertedRowCollidingWithAddedCardFollowsPolicy() throws IOException {
+        PokemonModel model = new PokemonModel(write("Alpha,1.0kg,1.0m,0.1,0.1,0.1,Fire"), DuplicatePolicy.FIRST_WINS);
+        List<Pokemon> fileRows = model.getSnapshot().asList();
+        model.insertAll(parse("Gamma,4.0kg,1.0m,0.4,0.4,0.4,Grass"));
+
+        BulkResult result = model.applyDelta(reload(DuplicatePolicy.FIRST_WINS, fileRows,
+                parse("Alpha,1.0kg,1.0m,0.1,0.1,0.1,Fire", "Gamma,9.0kg,1.0m,0.4,0.4,0.4,Grass")));
+
+        assertEquals(0, result.getInserted());
+        assertEquals(4.0, model.searchPokemon("Gamma").getWeight());
+        assertEquals(2, model.getPokemonCount());
+    }
+}
@@ -0,0 +1,102 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class ChunkedListTest {
+
+    private static List<Pokemon> cards(int from, int to) {
+        List<Pokemon> cards = new ArrayList<>();
+        for (int id = from; id < to; id++) {
+            cards.add(card(id, 0.5));
+        }
+        return cards;
+    }
+
+    @Test
+    void matchesArrayListAcrossAppendsRemovalsAndReplacements() {
+        Random random = new Random(11);
+        ChunkedList list = new ChunkedList();
+        List<Pokemon> expected = new ArrayList<>();
+        int nextId = 0;
+        for (int round = 0; round < 50; round++) {
+            int count = random.nextInt(3 * ChunkedList.CHUNK);
+            List<Pokemon> added = cards(nextId, nextId + count);
+            nextId += count;
+            list.addAll(added);
+            expected.addAll(added);
+
+            int modulus = 2 + random.nextInt(20);
+            list.removeIf(p -> p.getInstanceId() % modulus == 0);
+            expected.removeIf(p -> p.getInstanceId() % modulus == 0);
+
+            int residue = round % 7;
+            Map<Pokemon, Pokemon> replacements = new IdentityHashMap<>();
+            for (Pokemon p : expected) {
+                if (p.getInstanceId() % 7 == residue) {
+                    replacements.put(p, card(p.getInstanceId(), 0.5));
+                }
+            }
+            list.replaceAll(p -> replacements.getOrDefault(p, p));
+            expected.replaceAll(p -> replacements.getOrDefault(p, p));
+
+            assertEquals(expected.size(), list.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), list.get(i));
+            }
+            assertEquals(expected, new ArrayList<>(list));
+        }
+        assertTrue(list.chunkCount() <= 2 * (list.size() / ChunkedList.CHUNK) + 2,
+                "Removals should not leave many small chunks");
+    }
+
+    @Test
+    void snapshotIsUnchangedByLaterWrites() {
+        ChunkedList list = new ChunkedList();
+        list.addAll(cards(0, 3000));
+        List<Pokemon> before = list.snapshot();
+        List<Pokemon> copy = new ArrayList<>(before);
+
+        list.add(card(3000, 0.5));
+        list.removeIf(p -> p.getInstanceId() % 3 == 0);
+        list.replaceAll(p -> p.getInstanceId() == 1 ? card(1, 0.5) : p);
+
+        assertEquals(copy, before);
+        assertEquals(3000, before.size());
+        assertThrows(UnsupportedOperationException.class, () -> before.add(card(1, 0.5)));
+    }
+
+    @Test
+    void writesCopyOnlyTheChunksTheyTouch() {
+        ChunkedList list = new ChunkedList();
+        list.addAll(cards(0, 4 * ChunkedList.CHUNK));
+        List<Pokemon> before = list.snapshot();
+
+        list.replaceAll(p -> p.getInstanceId() == 5 ? card(5, 0.5) : p);
+        List<Pokemon> after = list.snapshot();
+
+        assertTrue(before.get(5) != after.get(5));
+        for (int i = ChunkedList.CHUNK; i < 4 * ChunkedList.CHUNK; i++) {
+            assertSame(before.get(i), after.get(i));
+        }
+    }
+
+    @Test
+    void rejectsPositionsOutOfRange() {
+        ChunkedList list = new ChunkedList();
+        list.addAll(cards(0, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+}
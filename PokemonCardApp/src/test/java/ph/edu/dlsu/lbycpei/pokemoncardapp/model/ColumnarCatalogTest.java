@@ -0,0 +1,72 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarCatalogTest {
+
+    private static List<Pokemon> cards(int count) {
+        List<Pokemon> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add(new Pokemon(i + 1, (i % 3 == 0 ? "Flabébé" : "Card") + i, i * 0.5, 1.0 + i,
+                    0.1, 0.2, 0.3, i % 2 == 0 ? "Water" : "Fire-Flying"));
+        }
+        return cards;
+    }
+
+    @Test
+    void rowsReadBackExactly() {
+        List<Pokemon> cards = cards(1_000);
+        ColumnarCatalog catalog = ColumnarCatalog.of(cards.stream());
+
+        assertEquals(cards.size(), catalog.size());
+        assertEquals(2, catalog.typeCount());
+        for (int row = 0; row < cards.size(); row++) {
+            Pokemon expected = cards.get(row);
+            Pokemon actual = catalog.get(row);
+            assertEquals(expected.getInstanceId(), actual.getInstanceId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getName(), catalog.getName(row));
+            assertEquals(expected.getWeight(), actual.getWeight());
+            assertEquals(expected.getHeight(), actual.getHeight());
+            assertEquals(expected.getType(), actual.getType());
+        }
+    }
+
+    @Test
+    void growsAgainAfterTrimming() {
+        ColumnarCatalog catalog = ColumnarCatalog.of(cards(3).stream());
+        cards(40).forEach(catalog::add);
+
+        assertEquals(43, catalog.size());
+        assertEquals("Card2", catalog.getName(2));
+        assertEquals("Flabébé39", catalog.getName(42));
+    }
+
+    @Test
+    void rejectsRowsOutOfRange() {
+        ColumnarCatalog catalog = ColumnarCatalog.of(cards(2).stream());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.getName(-1));
+    }
+
+    @Test
+    void diffReadsOldVersionFromColumns() {
+        List<Pokemon> before = cards(5);
+        List<Pokemon> after = new ArrayList<>(before.subList(1, 5));
+        after.set(0, new Pokemon(0, "CARD1", 9.0, 2.0, 0.1, 0.2, 0.3, "Fire-Flying"));
+        after.add(new Pokemon(0, "New", 1.0, 1.0, 0.1, 0.1, 0.1, "Rock"));
+
+        CatalogDelta delta = CatalogDelta.between(ColumnarCatalog.of(before.stream()), after);
+
+        assertEquals(List.of("New"), delta.getInserted().stream().map(Pokemon::getName).toList());
+        assertEquals(List.of("CARD1"), delta.getUpdated().stream().map(Pokemon::getName).toList());
+        assertEquals(List.of("Flabébé0"), delta.getRemoved());
+    }
+}
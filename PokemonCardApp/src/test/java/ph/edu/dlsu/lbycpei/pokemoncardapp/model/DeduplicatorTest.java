@@ -0,0 +1,142 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DeduplicatorTest {
+
+    @TempDir
+    Path dir;
+
+    private static Pokemon row(int id, String name, double attack, String type) {
+        return new Pokemon(id, name, 1.0, 1.0, attack, 0.5, 0.5, type);
+    }
+
+    private static List<String> summary(List<Pokemon> cards) {
+        return cards.stream().map(p -> p.getInstanceId() + ":" + p.getName() + ":" + p.getAttack()).toList();
+    }
+
+    private static final List<Pokemon> ROWS = List.of(
+            row(1, "Alpha", 0.1, "Fire"),
+            row(2, "Beta", 0.2, "Water"),
+            row(3, "ALPHA", 0.4, "Grass"),
+            row(4, "alpha", 0.7, "Rock"));
+
+    @Test
+    void firstWinsKeepsTheFirstRowOfEachName() {
+        assertEquals(List.of("1:Alpha:0.1", "2:Beta:0.2"), summary(DuplicatePolicy.FIRST_WINS.resolve(ROWS)));
+    }
+
+    @Test
+    void lastWinsKeepsTheLastRowAtItsPosition() {
+        assertEquals(List.of("2:Beta:0.2", "4:alpha:0.7"), summary(DuplicatePolicy.LAST_WINS.resolve(ROWS)));
+    }
+
+    @Test
+    void mergeAveragesAtTheFirstRow() {
+        List<Pokemon> merged = DuplicatePolicy.MERGE.resolve(ROWS);
+
+        assertEquals(List.of("Alpha", "Beta"), merged.stream().map(Pokemon::getName).toList());
+        Pokemon alpha = merged.get(0);
+        assertEquals(1, alpha.getInstanceId());
+        assertEquals("Fire", alpha.getType());
+        assertEquals(0.4, alpha.getAttack(), 1e-12); // (0.1 + 0.4 + 0.7) / 3
+    }
+
+    @Test
+    void resolvesAgainstLoadedCards() {
+        Pokemon loaded = row(9, "Alpha", 1.0, "Fire");
+        for (DuplicatePolicy policy : DuplicatePolicy.values()) {
+            Deduplicator deduplicator = new Deduplicator(policy);
+            ROWS.forEach(deduplicator::add);
+            deduplicator.resolve(name -> name.equalsIgnoreCase("alpha") ? loaded : null);
+
+            assertEquals(List.of("2:Beta:0.2"), summary(deduplicator.getInserted()), policy.name());
+            List<Pokemon> updated = deduplicator.getUpdated();
+            switch (policy) {
+                case FIRST_WINS -> assertEquals(List.of(), updated);
+                case LAST_WINS -> assertEquals(List.of("4:alpha:0.7"), summary(updated));
+                case MERGE -> {
+                    assertEquals(1, updated.size());
+                    assertEquals(9, updated.get(0).getInstanceId());
+                    assertEquals("Alpha", updated.get(0).getName());
+                    // The loaded card counts as one row against the three in the batch
+                    assertEquals((1.0 + 0.1 + 0.4 + 0.7) / 4, updated.get(0).getAttack(), 1e-12);
+                }
+            }
+            DuplicateReport report = deduplicator.report();
+            assertEquals(Set.of("Alpha"), report.getCollisions().keySet(), policy.name());
+            assertEquals(4, report.getRowsRead());
+        }
+    }
+
+    @Test
+    void policyNamesAreParsedLeniently() {
+        assertEquals(DuplicatePolicy.LAST_WINS, DuplicatePolicy.of(" last-wins "));
+        assertEquals(DuplicatePolicy.MERGE, DuplicatePolicy.of("Merge"));
+        assertEquals(DuplicatePolicy.FIRST_WINS, DuplicatePolicy.of(null));
+        assertEquals(DuplicatePolicy.FIRST_WINS, DuplicatePolicy.of("newest"));
+    }
+
+    private PokemonModel load(DuplicatePolicy policy) throws IOException {
+        Path file = dir.resolve("cards.csv");
+        Files.write(file, List.of("Alpha,1.0kg,1.0m,0.1,0.5,0.5,Fire", "Beta,1.0kg,1.0m,0.2,0.5,0.5,Water"));
+        return new PokemonModel(file.toFile(), policy);
+    }
+
+    @Test
+    void insertAllKeepsOneCardPerName() throws IOException {
+        List<Pokemon> batch = List.of(row(0, "ALPHA", 0.9, "Fire"), row(0, "Gamma", 0.3, "Grass"),
+                row(0, "gamma", 0.6, "Grass"));
+
+        PokemonModel first = load(DuplicatePolicy.FIRST_WINS);
+        BulkResult result = first.insertAll(batch);
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getUpdated());
+        assertEquals(3, first.getPokemonCount());
+        assertEquals(0.1, first.searchPokemon("alpha").getAttack());
+        assertEquals(0.3, first.searchPokemon("gamma").getAttack());
+
+        PokemonModel last = load(DuplicatePolicy.LAST_WINS);
+        Pokemon alpha = last.searchPokemon("Alpha");
+        result = last.insertAll(batch);
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(3, last.getPokemonCount());
+        assertEquals(0.9, last.searchPokemon("alpha").getAttack());
+        assertEquals(alpha.getInstanceId(), last.searchPokemon("alpha").getInstanceId());
+        assertEquals(0.6, last.searchPokemon("gamma").getAttack());
+    }
+
+    @Test
+    void loggedInsertsReplayToTheSameCatalog() throws IOException {
+        Path log = dir.resolve("cards.log");
+        PokemonModel model = load(DuplicatePolicy.MERGE);
+        model.openMutationLog(log);
+        model.insertAll(List.of(row(0, "alpha", 0.3, "Rock"), row(0, "Gamma", 0.3, "Grass")));
+        List<String> before = summaryByName(model);
+        model.closeMutationLog();
+
+        PokemonModel reopened = load(DuplicatePolicy.MERGE);
+        reopened.openMutationLog(log);
+        reopened.closeMutationLog();
+
+        assertEquals(before, summaryByName(reopened));
+        assertEquals(3, reopened.getPokemonCount());
+        assertSame(reopened.searchPokemon("Alpha"), reopened.getSnapshot().asList().get(0));
+    }
+
+    private static List<String> summaryByName(PokemonModel model) {
+        return model.getSnapshot().asList().stream()
+                .map(p -> p.getName() + ":" + p.getType() + ":" + p.getAttack()).toList();
+    }
+}
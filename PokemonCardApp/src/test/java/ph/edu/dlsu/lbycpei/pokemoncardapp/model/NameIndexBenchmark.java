@@ -0,0 +1,72 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lookup latency of the name index from 1k to 10M cards. Skipped by a normal build; run with
+ * mvn test -Dbenchmark=true -Dtest=NameIndexBenchmark -DargLine=-Xmx4g
+ * (-Dbenchmark.maxCards=1000000 for a smaller heap).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NameIndexBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    private static volatile Object sink; // Keeps the JIT from dropping the lookups
+
+    @Test
+    void lookupLatencyStaysFlat() {
+        int maxCards = Integer.getInteger("benchmark.maxCards", 10_000_000);
+        NameIndex index = new NameIndex();
+        Random random = new Random(42);
+        int indexed = 0;
+        double smallest = Double.NaN;
+        double largest = Double.NaN;
+
+        System.out.printf("%12s %14s%n", "cards", "ns/lookup");
+        for (int size = 1_000; size <= maxCards; size *= 10) {
+            for (; indexed < size; indexed++) {
+                index.add(new Pokemon(indexed, name(indexed), 10.0, 1.0, 0.5, 0.5, 0.5, "Water"));
+            }
+
+            // Queries as a user types them, so each one is case-folded like a real search
+            String[] queries = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                queries[i] = name(random.nextInt(size)).toUpperCase();
+            }
+
+            double best = Double.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                Pokemon last = null;
+                for (String query : queries) {
+                    last = index.get(query);
+                }
+                best = Math.min(best, (System.nanoTime() - start) / (double) LOOKUPS);
+                sink = last;
+            }
+            assertSame(index.get(queries[0]), index.get(queries[0].toLowerCase()));
+            System.out.printf("%12d %14.1f%n", size, best);
+
+            if (Double.isNaN(smallest)) {
+                smallest = best;
+            }
+            largest = best;
+        }
+
+        // 10^4 times the cards must not cost anywhere near 10^4 times the time; the
+        // remaining growth is cache misses once the table no longer fits in cache
+        assertTrue(largest < smallest * 25, "Lookup time grew from " + smallest + " to " + largest + " ns");
+    }
+
+    private static String name(int i) {
+        return "card-" + i;
+    }
+}
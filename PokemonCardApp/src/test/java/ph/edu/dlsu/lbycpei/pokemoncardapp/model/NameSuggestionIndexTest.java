@@ -0,0 +1,78 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameSuggestionIndexTest {
+
+    @Test
+    void ranksExactThenPrefixThenFuzzy() {
+        NameSuggestionIndex index = new NameSuggestionIndex();
+        index.addAll(List.of("Pikachu", "Pichu", "Pidgey", "Raichu", "Pikipek"));
+
+        assertEquals(List.of("Pichu", "Pidgey", "Pikachu", "Pikipek"), index.suggest("pi", 8));
+        assertEquals(List.of("Pikachu"), index.suggest("PIKACHU", 1));
+        assertEquals(List.of("Pikachu"), index.suggest("pikachuu", 8));
+        assertTrue(index.suggest("", 8).isEmpty());
+    }
+
+    @Test
+    void ignoresNamesAlreadyIndexed() {
+        NameSuggestionIndex index = new NameSuggestionIndex();
+        index.add("Mew");
+        index.add("MEW");
+
+        assertEquals(List.of("Mew"), index.suggest("me", 8));
+    }
+
+    @Test
+    void removedNamesAreNotSuggested() {
+        NameSuggestionIndex index = new NameSuggestionIndex();
+        index.addAll(List.of("Bulbasaur", "Ivysaur", "Venusaur"));
+        index.remove("ivysaur");
+        index.removeAll(List.of("Venusaur", "Missingno"));
+
+        assertEquals(List.of(), index.suggest("ivy", 8));
+        assertEquals(List.of("Bulbasaur"), index.suggest("bulbasaurr", 8));
+    }
+
+    // Churn triggers compactions; the answers must match an index built from the live names alone
+    @Test
+    void matchesFreshIndexAfterChurn() {
+        Random random = new Random(7);
+        NameSuggestionIndex churned = new NameSuggestionIndex();
+        Set<String> live = new LinkedHashSet<>();
+        for (int step = 0; step < 20_000; step++) {
+            String name = "Mon" + random.nextInt(3_000);
+            int action = random.nextInt(10);
+            if (action < 5) {
+                churned.add(name);
+                live.add(name);
+            } else if (action < 9) {
+                churned.remove(name);
+                live.remove(name);
+            } else {
+                List<String> batch = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    batch.add("Mon" + random.nextInt(3_000));
+                }
+                churned.removeAll(batch);
+                batch.forEach(live::remove);
+            }
+        }
+
+        NameSuggestionIndex fresh = new NameSuggestionIndex();
+        fresh.addAll(live);
+        for (String query : List.of("mon1", "mon12", "mon", "mon999", "mn123", "mon2500x", "zz")) {
+            assertEquals(fresh.suggest(query, 20), churned.suggest(query, 20), query);
+        }
+    }
+}
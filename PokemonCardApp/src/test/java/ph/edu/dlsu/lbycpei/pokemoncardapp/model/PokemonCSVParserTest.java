@@ -0,0 +1,159 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PokemonCSVParserTest {
+
+    private final PokemonCSVParser parser = new PokemonCSVParser(false);
+
+    @Test
+    void parsesPlainRow() {
+        Pokemon p = parser.parse("Pikachu,6.0kg,0.4m,0.55,0.40,0.35,Electric", 1);
+
+        assertEquals("Pikachu", p.getName());
+        assertEquals(6.0, p.getWeight());
+        assertEquals(0.4, p.getHeight());
+        assertEquals(0.55, p.getAttack());
+        assertEquals(0.40, p.getDefense());
+        assertEquals(0.35, p.getStamina());
+        assertEquals("Electric", p.getType());
+    }
+
+    @Test
+    void unwrapsQuotedRowAndDropsTrailingComma() {
+        Pokemon p = parser.parse("  \"Charizard,90.5kg,1.7m,0.84,0.78,0.78,Fire-Flying\",  ", 1);
+
+        assertEquals("Charizard", p.getName());
+        assertEquals("Fire-Flying", p.getType());
+        assertTrue(p.hasSecondaryType());
+    }
+
+    @Test
+    void trimsFieldsAndUnits() {
+        Pokemon p = parser.parse("Mew , 4.0 kg , 0.4 m , 0.5 , 0.5 , 0.5 , Psychic ", 1);
+
+        assertEquals("Mew", p.getName());
+        assertEquals(4.0, p.getWeight());
+        assertEquals(0.4, p.getHeight());
+        assertEquals("Psychic", p.getType());
+    }
+
+    @Test
+    void fallsBackForNumbersOutsideTheFastPath() {
+        Pokemon p = parser.parse("Onix,2.1e2kg,8.8m,-0.25,0.1234567890123456789,1E-1,Rock-Ground", 1);
+
+        assertEquals(210.0, p.getWeight());
+        assertEquals(-0.25, p.getAttack());
+        assertEquals(Double.parseDouble("0.1234567890123456789"), p.getDefense());
+        assertEquals(0.1, p.getStamina());
+    }
+
+    @Test
+    void formatReadsBackToSameValues() {
+        Pokemon original = new Pokemon(0, "Bulbasaur", 6.9, 0.7, 0.118, 0.111, 0.128, "Grass-Poison");
+        Pokemon copy = parser.parse(PokemonCSVParser.format(original), 1);
+
+        assertEquals(original.getName(), copy.getName());
+        assertEquals(original.getWeight(), copy.getWeight());
+        assertEquals(original.getHeight(), copy.getHeight());
+        assertEquals(original.getAttack(), copy.getAttack());
+        assertEquals(original.getDefense(), copy.getDefense());
+        assertEquals(original.getStamina(), copy.getStamina());
+        assertEquals(original.getType(), copy.getType());
+    }
+
+    @Test
+    void parsesRowInsideLargerBuffer() {
+        String buffer = "header\nSquirtle,9.0kg,0.5m,0.4,0.5,0.4,Water\r\nnext";
+        int start = buffer.indexOf('S');
+        int end = buffer.indexOf("next");
+
+        Pokemon p = parser.parse(buffer, start, end, 2);
+
+        assertEquals("Squirtle", p.getName());
+        assertEquals("Water", p.getType());
+    }
+
+    @Test
+    void reportsLineAndColumnOfBadNumber() {
+        CSVParseException e = assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,6.0kg,0.4m,abc,0.40,0.35,Electric", 7));
+
+        assertEquals(7, e.getLineNumber());
+        assertEquals(20, e.getColumn());
+        assertEquals("Invalid attack value 'abc'", e.getReason());
+        assertEquals("Line 7, column 20: Invalid attack value 'abc'", e.getMessage());
+    }
+
+    @Test
+    void columnIsRelativeToRowStart() {
+        String buffer = "ignored\nPikachu,6.0,0.4m,0.55,0.40,0.35,Electric";
+        int start = buffer.indexOf('P');
+
+        CSVParseException e = assertThrows(CSVParseException.class,
+                () -> parser.parse(buffer, start, buffer.length(), 2));
+
+        assertEquals(9, e.getColumn());
+        assertEquals("Expected weight ending with 'kg'", e.getReason());
+    }
+
+    @Test
+    void rejectsMissingField() {
+        CSVParseException e = assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,6.0kg,0.4m,0.55,0.40,Electric", 1));
+
+        assertEquals("Missing type field", e.getReason());
+    }
+
+    @Test
+    void rejectsExtraField() {
+        CSVParseException e = assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,6.0kg,0.4m,0.55,0.40,0.35,Electric,Extra", 1));
+
+        assertEquals("Expected 7 fields but found more", e.getReason());
+        assertEquals(43, e.getColumn());
+    }
+
+    @Test
+    void ignoresTrailingEmptyFields() {
+        Pokemon p = parser.parse("Squirtle,9.0kg,0.5m,0.48,0.43,0.44,Water,,", 1);
+        Pokemon quoted = parser.parse("\"Squirtle,9.0kg,0.5m,0.48,0.43,0.44,Water,,,\"", 1);
+
+        assertEquals("Water", p.getType());
+        assertEquals("Water", quoted.getType());
+        assertEquals("Expected 7 fields but found more", assertThrows(CSVParseException.class,
+                () -> parser.parse("Squirtle,9.0kg,0.5m,0.48,0.43,0.44,Water, ,", 1)).getReason());
+    }
+
+    @Test
+    void rejectsEmptyNameTypeAndLine() {
+        assertEquals("Name is empty", assertThrows(CSVParseException.class,
+                () -> parser.parse(" ,6.0kg,0.4m,0.55,0.40,0.35,Electric", 1)).getReason());
+        assertEquals("Type is empty", assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,6.0kg,0.4m,0.55,0.40,0.35, ,", 1)).getReason());
+        assertEquals("Empty line", assertThrows(CSVParseException.class,
+                () -> parser.parse("  ", 1)).getReason());
+        assertEquals("Missing weight value", assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,kg,0.4m,0.55,0.40,0.35,Electric", 1)).getReason());
+    }
+
+    @Test
+    void messageOmitsUnknownLine() {
+        CSVParseException e = assertThrows(CSVParseException.class,
+                () -> parser.parse("Pikachu,6.0kg,0.4m,0.55,0.40,x,Electric", 0));
+
+        assertTrue(e.getMessage().startsWith("Column "));
+    }
+
+    @Test
+    void isValidDoesNotThrow() {
+        assertTrue(parser.isValid("Pikachu,6.0kg,0.4m,0.55,0.40,0.35,Electric"));
+        assertFalse(parser.isValid("Pikachu,6.0kg,0.4m,0.55,0.40,0.35"));
+        assertFalse(parser.isValid(""));
+    }
+}
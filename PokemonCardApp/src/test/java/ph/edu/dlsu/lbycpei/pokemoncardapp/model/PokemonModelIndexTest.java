@@ -0,0 +1,158 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Every index must agree with the catalog after any mix of inserts, updates and removals
+class PokemonModelIndexTest {
+
+    private static final String[] TYPES = {"Fire", "Water", "Grass", "Fire-Flying", "Water-Ice", "Rock"};
+    private static final StatQuery[] QUERIES = {
+            new StatQuery().between(PokemonStat.ATTACK, 0.2, 0.6),
+            new StatQuery().greaterThan(PokemonStat.WEIGHT, 50.0).atMost(PokemonStat.HEIGHT, 1.5),
+            new StatQuery().lessThan(PokemonStat.STAMINA, 0.3),
+    };
+
+    @TempDir
+    Path dir;
+
+    private final Random random = new Random(5);
+    private int nextId = 1_000; // Past the IDs the loaded file gets
+
+    private Pokemon card(String name) {
+        return new Pokemon(nextId++, name, random.nextInt(1000) / 10.0, random.nextInt(30) / 10.0,
+                random.nextInt(10) / 10.0, random.nextInt(10) / 10.0, random.nextInt(10) / 10.0,
+                TYPES[random.nextInt(TYPES.length)]);
+    }
+
+    // A small pool of names so inserts, updates and removals keep hitting the same cards
+    private String name() {
+        String name = "Mon" + random.nextInt(200);
+        return random.nextInt(5) == 0 ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    private PokemonModel load() throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(PokemonCSVParser.format(card("Mon" + i)));
+        }
+        Path file = dir.resolve("cards.csv");
+        Files.write(file, rows);
+        return new PokemonModel(file.toFile(), DuplicatePolicy.FIRST_WINS);
+    }
+
+    @Test
+    void indexesMatchTheCatalogAfterMixedChanges() throws IOException {
+        PokemonModel model = load();
+        Set<String> everSeen = new HashSet<>();
+        assertConsistent(model, everSeen);
+
+        for (int step = 0; step < 300; step++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    List<Pokemon> inserted = new ArrayList<>();
+                    for (int i = random.nextInt(20); i >= 0; i--) {
+                        inserted.add(card(name()));
+                    }
+                    model.insertAll(inserted);
+                }
+                case 1 -> {
+                    List<String> removed = new ArrayList<>();
+                    for (int i = random.nextInt(10); i >= 0; i--) {
+                        removed.add(name());
+                    }
+                    model.removeAll(removed);
+                }
+                case 2 -> {
+                    List<Pokemon> updates = new ArrayList<>();
+                    for (int i = random.nextInt(10); i >= 0; i--) {
+                        updates.add(card(name())); // Some respell a name in another case
+                    }
+                    model.updateAll(updates);
+                }
+                case 3 -> {
+                    int modulus = 5 + random.nextInt(20);
+                    model.removeIf(p -> p.getInstanceId() % modulus == 0);
+                }
+                default -> {
+                    double attack = random.nextInt(10) / 10.0;
+                    model.removeIf(p -> p.getAttack() == attack && p.getName().endsWith("7"));
+                }
+            }
+            assertConsistent(model, everSeen);
+        }
+    }
+
+    private static void assertConsistent(PokemonModel model, Set<String> everSeen) {
+        List<Pokemon> catalog = model.getSnapshot().asList();
+        assertEquals(catalog.size(), model.getPokemonCount());
+
+        // Name index and suggestions: the first card of each name, and no leftover names
+        Set<String> liveKeys = new HashSet<>();
+        for (Pokemon pokemon : catalog) {
+            String key = pokemon.getName().toLowerCase(Locale.ROOT);
+            everSeen.add(key);
+            if (liveKeys.add(key)) {
+                assertSame(pokemon, model.searchPokemon(pokemon.getName()));
+                assertTrue(model.suggestNames(pokemon.getName(), 10).stream()
+                        .anyMatch(s -> s.equalsIgnoreCase(pokemon.getName())), pokemon.getName());
+            }
+        }
+        for (String key : everSeen) {
+            if (!liveKeys.contains(key)) {
+                assertEquals(null, model.searchPokemon(key));
+                assertFalse(model.suggestNames(key, 50).stream().anyMatch(s -> s.equalsIgnoreCase(key)), key);
+            }
+        }
+
+        // Type index, in catalog order
+        for (String type : List.of("Fire", "Flying", "Ice")) {
+            List<Pokemon> expected = catalog.stream()
+                    .filter(p -> p.getPrimaryTypeName().equals(type) || type.equals(p.getSecondaryTypeName()))
+                    .toList();
+            assertEquals(expected, model.getPokemonWithAnyType(type), type);
+        }
+
+        // Power ranking: strongest first, ties by instance ID
+        List<Pokemon> ranked = new ArrayList<>(catalog);
+        ranked.sort(Comparator.comparingDouble(Pokemon::calculatePowerLevel).reversed()
+                .thenComparingInt(Pokemon::getInstanceId));
+        assertEquals(ranked, model.getTopByPower(catalog.size()));
+
+        // Stat columns
+        for (StatQuery query : QUERIES) {
+            Set<Pokemon> expected = new HashSet<>(catalog.stream().filter(query::matches).toList());
+            List<Pokemon> found = model.findByStats(query).toList();
+            assertEquals(expected.size(), found.size());
+            assertEquals(expected, new HashSet<>(found));
+        }
+
+        // Type aggregates
+        for (String type : List.of("Fire", "Water", "Rock")) {
+            List<Pokemon> group = catalog.stream().filter(p -> p.getPrimaryTypeName().equals(type)).toList();
+            StatSummary summary = model.getStatsForType(TypeGrouping.PRIMARY_TYPE, type, PokemonStat.ATTACK);
+            if (group.isEmpty()) {
+                assertTrue(summary == null || summary.getCount() == 0, type);
+            } else {
+                assertEquals(group.size(), summary.getCount(), type);
+                assertEquals(group.stream().mapToDouble(Pokemon::getAttack).sum(), summary.getSum(), 1e-9, type);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class PowerRankingTest {
+
+    @Test
+    void ordersStrongestFirstWithTiesByInstanceId() {
+        PowerRanking ranking = new PowerRanking();
+        Pokemon a = card(3, 0.5);
+        Pokemon b = card(1, 0.9);
+        Pokemon c = card(2, 0.5);
+        ranking.addAll(List.of(a, b, c));
+
+        assertEquals(List.of(b, c, a), ranking.top(5));
+        assertEquals(List.of(a, c), ranking.bottom(2));
+        assertEquals(1, ranking.rankOf(b.calculatePowerLevel()));
+        assertEquals(2, ranking.rankOf(a.calculatePowerLevel()));
+    }
+
+    @Test
+    void removesOnlyTheGivenCardAmongEqualPowers() {
+        PowerRanking ranking = new PowerRanking();
+        Pokemon a = card(1, 0.5);
+        Pokemon b = card(2, 0.5);
+        ranking.addAll(List.of(a, b));
+
+        assertTrue(ranking.remove(b));
+        assertFalse(ranking.remove(b));
+        assertEquals(List.of(a), ranking.top(5));
+    }
+
+    @Test
+    void removesCardWithNaNPower() {
+        PowerRanking ranking = new PowerRanking();
+        Pokemon broken = card(1, Double.NaN);
+        Pokemon other = card(2, 0.5);
+        ranking.addAll(List.of(broken, other));
+
+        assertTrue(ranking.remove(broken));
+        assertEquals(List.of(other), ranking.top(5));
+    }
+
+    @Test
+    void largeBatchRemovalKeepsOrder() {
+        PowerRanking ranking = new PowerRanking();
+        List<Pokemon> cards = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cards.add(card(i, (i * 37 % 100) / 100.0));
+        }
+        ranking.addAll(cards);
+        List<Pokemon> removed = new ArrayList<>();
+        for (int i = 0; i < 100; i += 3) {
+            removed.add(cards.get(i));
+        }
+        ranking.removeAll(removed);
+
+        List<Pokemon> top = ranking.top(100);
+        assertEquals(100 - removed.size(), top.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).calculatePowerLevel() >= top.get(i).calculatePowerLevel());
+        }
+        assertFalse(top.contains(cards.get(0)));
+    }
+}
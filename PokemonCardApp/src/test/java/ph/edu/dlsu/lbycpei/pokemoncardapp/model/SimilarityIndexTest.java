@@ -0,0 +1,38 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class SimilarityIndexTest {
+
+    @Test
+    void findsNearestCardsByScaledStats() {
+        Pokemon target = card(1, 10.0, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon near = card(2, 11.0, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon middle = card(3, 30.0, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon far = card(4, 90.0, 1.0, 0.9, 0.5, 0.5, "Normal");
+        SimilarityIndex index = new SimilarityIndex(new CatalogSnapshot(1, List.of(far, target, middle, near)));
+
+        assertEquals(List.of(near, middle, far), index.nearest(target, 5));
+        assertEquals(List.of(near), index.nearest(target, 1));
+    }
+
+    @Test
+    void ignoresCardsWithNonFiniteStats() {
+        Pokemon target = card(1, 10.0, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon near = card(2, 11.0, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon far = card(3, 90.0, 1.0, 0.9, 0.5, 0.5, "Normal");
+        Pokemon broken = card(4, Double.NaN, 1.0, 0.5, 0.5, 0.5, "Normal");
+        Pokemon huge = card(5, Double.POSITIVE_INFINITY, 1.0, 0.5, 0.5, 0.5, "Normal");
+        SimilarityIndex index = new SimilarityIndex(
+                new CatalogSnapshot(1, List.of(broken, target, huge, near, far)));
+
+        assertEquals(List.of(near, far), index.nearest(target, 5));
+        assertTrue(index.nearest(broken, 5).isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.randomCard;
+
+class StatRangeIndexTest {
+
+    private static List<Integer> ids(List<Pokemon> cards) {
+        return cards.stream().map(Pokemon::getInstanceId).sorted().collect(Collectors.toList());
+    }
+
+    private static void assertSameMatches(StatRangeIndex index, List<Pokemon> catalog, StatQuery query) {
+        List<Pokemon> expected = catalog.stream().filter(query::matches).toList();
+        assertEquals(ids(expected), ids(index.query(catalog, query).toList()));
+    }
+
+    @Test
+    void matchesBruteForceAcrossInsertsRemovalsAndUpdates() {
+        Random random = new Random(42);
+        List<Pokemon> catalog = new ArrayList<>();
+        int nextId = 0;
+        for (; nextId < 5_000; nextId++) {
+            catalog.add(randomCard(nextId, random));
+        }
+        StatRangeIndex index = new StatRangeIndex();
+        StatQuery attack = new StatQuery().between(PokemonStat.ATTACK, 0.3, 0.6);
+        StatQuery weight = new StatQuery().greaterThan(PokemonStat.WEIGHT, 5.0).atMost(PokemonStat.HEIGHT, 1.0);
+        assertSameMatches(index, catalog, attack); // Builds the columns
+        assertSameMatches(index, catalog, weight);
+
+        // Enough rounds to go past the merge threshold several times
+        for (int round = 0; round < 20; round++) {
+            List<Pokemon> added = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                added.add(randomCard(nextId++, random));
+            }
+            catalog.addAll(added);
+            index.addAll(added);
+
+            List<Pokemon> removed = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                removed.add(catalog.remove(random.nextInt(catalog.size())));
+            }
+            index.removeAll(removed);
+
+            List<Pokemon> replaced = new ArrayList<>();
+            List<Pokemon> replacements = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int position = random.nextInt(catalog.size());
+                Pokemon old = catalog.get(position);
+                if (replaced.contains(old) || replacements.contains(old)) {
+                    continue; // Updated once per batch, as in PokemonModel.apply
+                }
+                Pokemon replacement = randomCard(old.getInstanceId(), random);
+                catalog.set(position, replacement);
+                replaced.add(old);
+                replacements.add(replacement);
+            }
+            index.removeAll(replaced);
+            index.addAll(replacements);
+
+            assertSameMatches(index, catalog, attack);
+            assertSameMatches(index, catalog, weight);
+        }
+    }
+
+    @Test
+    void removesCardsAddedSinceTheLastMerge() {
+        Random random = new Random(7);
+        List<Pokemon> catalog = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            catalog.add(randomCard(i, random));
+        }
+        StatRangeIndex index = new StatRangeIndex();
+        StatQuery all = new StatQuery().atLeast(PokemonStat.STAMINA, 0.0);
+        assertSameMatches(index, catalog, all);
+
+        Pokemon added = randomCard(10, random);
+        catalog.add(added);
+        index.addAll(List.of(added));
+        assertSameMatches(index, catalog, all);
+
+        catalog.remove(added);
+        index.removeAll(List.of(added));
+        assertSameMatches(index, catalog, all);
+    }
+
+    @Test
+    void keepsTheSortedColumnOrderBeforeRecentChanges() {
+        Random random = new Random(3);
+        List<Pokemon> catalog = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            catalog.add(randomCard(i, random));
+        }
+        StatRangeIndex index = new StatRangeIndex();
+        StatQuery query = new StatQuery().atLeast(PokemonStat.WEIGHT, 0.0);
+        List<Pokemon> result = index.query(catalog, query).toList();
+        List<Pokemon> sorted = new ArrayList<>(result);
+        sorted.sort(Comparator.comparingDouble(Pokemon::getWeight));
+        assertEquals(sorted, result);
+    }
+}
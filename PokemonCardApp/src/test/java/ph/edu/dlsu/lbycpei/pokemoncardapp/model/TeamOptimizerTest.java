@@ -0,0 +1,100 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class TeamOptimizerTest {
+
+    private static final String[] TYPES = {"Fire", "Water", "Grass", "Fire-Flying", "Water-Ice", "Rock"};
+
+    private static List<Pokemon> randomCards(Random random, int count) {
+        List<Pokemon> cards = new ArrayList<>();
+        for (int id = 0; id < count; id++) {
+            cards.add(card(id, 1 + random.nextInt(50), 1.0, random.nextInt(100) / 100.0, 0.1, 0.1,
+                    TYPES[random.nextInt(TYPES.length)]));
+        }
+        return cards;
+    }
+
+    // Best total power over every team of three, checked the slow way
+    private static double bruteForce(List<Pokemon> cards, double maxWeight, boolean distinct) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (int a = 0; a < cards.size(); a++) {
+            for (int b = a + 1; b < cards.size(); b++) {
+                for (int c = b + 1; c < cards.size(); c++) {
+                    List<Pokemon> team = List.of(cards.get(a), cards.get(b), cards.get(c));
+                    double weight = team.stream().mapToDouble(Pokemon::getWeight).sum();
+                    if (weight > maxWeight || (distinct && sharesType(team))) {
+                        continue;
+                    }
+                    best = Math.max(best, team.stream().mapToDouble(Pokemon::calculatePowerLevel).sum());
+                }
+            }
+        }
+        return best;
+    }
+
+    private static boolean sharesType(List<Pokemon> team) {
+        List<String> seen = new ArrayList<>();
+        for (Pokemon pokemon : team) {
+            for (String type : pokemon.getType().split("-")) {
+                if (seen.contains(type)) {
+                    return true;
+                }
+                seen.add(type);
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(9);
+        for (int round = 0; round < 20; round++) {
+            List<Pokemon> cards = randomCards(random, 25);
+            double maxWeight = 30 + random.nextInt(60);
+            boolean distinct = round % 2 == 0;
+            TeamConstraints constraints = new TeamConstraints(3).maxTotalWeight(maxWeight);
+            if (distinct) {
+                constraints.distinctTypes();
+            }
+            Team team = TeamOptimizer.optimize(cards, constraints);
+            double expected = bruteForce(cards, maxWeight, distinct);
+            if (expected == Double.NEGATIVE_INFINITY) {
+                assertTrue(team.isEmpty());
+            } else {
+                assertEquals(expected, team.getTotalPower(), 1e-9);
+                assertTrue(team.isOptimal());
+            }
+        }
+    }
+
+    @Test
+    void skipsCardsWithNonFinitePower() {
+        List<Pokemon> cards = new ArrayList<>(randomCards(new Random(1), 10));
+        cards.add(card(100, 1.0, 1.0, Double.NaN, 0.1, 0.1, "Fire"));
+        cards.add(card(101, 1.0, 1.0, Double.POSITIVE_INFINITY, 0.1, 0.1, "Water"));
+        cards.add(card(102, Double.NaN, 1.0, 0.9, 0.1, 0.1, "Grass"));
+
+        Team team = TeamOptimizer.optimize(cards, new TeamConstraints(3).maxTotalWeight(60));
+        assertEquals(bruteForce(cards.subList(0, 10), 60, false), team.getTotalPower(), 1e-9);
+        assertTrue(Double.isFinite(team.getTotalPower()));
+    }
+
+    @Test
+    void returnsTheGreedyTeamWhenTheBudgetIsAlreadySpent() {
+        List<Pokemon> cards = randomCards(new Random(4), 200);
+        Team team = TeamOptimizer.optimize(cards, new TeamConstraints(4).timeBudget(Duration.ZERO));
+        assertEquals(4, team.getMembers().size());
+        assertFalse(team.isOptimal());
+    }
+}
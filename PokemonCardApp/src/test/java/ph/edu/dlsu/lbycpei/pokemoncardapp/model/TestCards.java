@@ -0,0 +1,33 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import java.util.Random;
+
+/**
+ * Cards for model tests, each named after its instance ID
+ */
+final class TestCards {
+
+    private TestCards() {
+        // Not meant to be instantiated
+    }
+
+    static Pokemon card(int id, double weight, double height, double attack, double defense, double stamina,
+                        String type) {
+        return new Pokemon(id, "Card" + id, weight, height, attack, defense, stamina, type);
+    }
+
+    /**
+     * A Normal card whose power level is its attack
+     */
+    static Pokemon card(int id, double attack) {
+        return card(id, 1.0, 1.0, attack, 0.0, 0.0, "Normal");
+    }
+
+    /**
+     * A Normal card with stats on a coarse grid, so random cards often tie
+     */
+    static Pokemon randomCard(int id, Random random) {
+        return card(id, random.nextInt(100) / 10.0, random.nextInt(30) / 10.0,
+                random.nextInt(10) / 10.0, random.nextInt(10) / 10.0, random.nextInt(10) / 10.0, "Normal");
+    }
+}
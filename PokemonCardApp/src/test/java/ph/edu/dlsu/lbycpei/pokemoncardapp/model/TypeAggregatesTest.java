@@ -0,0 +1,127 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.randomCard;
+
+class TypeAggregatesTest {
+
+    private static final String[] TYPES = {"Water", "Fire", "Fire-Flying", "Grass-Poison", "Water-Flying", "Cosmic"};
+
+    private static List<Pokemon> randomCards(Random random, int from, int count) {
+        List<Pokemon> cards = new ArrayList<>();
+        for (int id = from; id < from + count; id++) {
+            Pokemon stats = randomCard(id, random);
+            cards.add(card(id, stats.getWeight(), stats.getHeight(), stats.getAttack(), stats.getDefense(),
+                    stats.getStamina(), TYPES[random.nextInt(TYPES.length)]));
+        }
+        return cards;
+    }
+
+    // Every figure of every group, computed from scratch
+    private static void assertMatchesCatalog(TypeAggregates aggregates, List<Pokemon> catalog) {
+        for (TypeGrouping grouping : TypeGrouping.values()) {
+            for (PokemonStat stat : PokemonStat.values()) {
+                Map<String, List<Double>> values = new HashMap<>();
+                for (Pokemon card : catalog) {
+                    String group = grouping.groupOf(card);
+                    if (group != null) {
+                        values.computeIfAbsent(group, g -> new ArrayList<>()).add(stat.of(card));
+                    }
+                }
+
+                Map<String, StatSummary> summaries = aggregates.summarize(grouping, stat);
+                assertEquals(values.keySet(), summaries.keySet());
+                values.forEach((group, list) -> {
+                    double[] sorted = list.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+                    StatSummary summary = summaries.get(group);
+                    String where = grouping + " " + group + " " + stat;
+                    assertEquals(sorted.length, summary.getCount(), where);
+                    assertEquals(sorted[0], summary.getMin(), where);
+                    assertEquals(sorted[sorted.length - 1], summary.getMax(), where);
+                    assertEquals(sorted[(sorted.length + 1) / 2 - 1], summary.getMedian(), where);
+                    assertEquals(Arrays.stream(sorted).sum(), summary.getSum(), 1e-9, where);
+                });
+            }
+        }
+    }
+
+    @Test
+    void matchesTheCatalogThroughAddsAndRemovals() {
+        Random random = new Random(5);
+        TypeAggregates aggregates = new TypeAggregates();
+        // Large enough to be bucketed by several fork-join tasks
+        List<Pokemon> catalog = new ArrayList<>(randomCards(random, 0, 20_000));
+        aggregates.addAll(catalog);
+        assertMatchesCatalog(aggregates, catalog);
+
+        int nextId = catalog.size();
+        for (int round = 0; round < 10; round++) {
+            List<Pokemon> added = randomCards(random, nextId, 1 + random.nextInt(300));
+            nextId += added.size();
+            catalog.addAll(added);
+            aggregates.addAll(added);
+
+            List<Pokemon> removed = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                removed.add(catalog.remove(random.nextInt(catalog.size())));
+            }
+            aggregates.removeAll(removed);
+            if (round % 3 == 0) {
+                assertMatchesCatalog(aggregates, catalog);
+            }
+        }
+        assertMatchesCatalog(aggregates, catalog);
+
+        // Removing a large batch folds stale columns in parallel
+        List<Pokemon> half = new ArrayList<>(catalog.subList(0, catalog.size() / 2));
+        catalog.subList(0, half.size()).clear();
+        aggregates.removeAll(half);
+        assertMatchesCatalog(aggregates, catalog);
+    }
+
+    @Test
+    void emptiedGroupsDisappear() {
+        Pokemon cosmic = card(1, 1.0, 1.0, 0.5, 0.5, 0.5, "Cosmic-Flying");
+        Pokemon water = card(2, 9.0, 0.5, 0.4, 0.3, 0.6, "Water");
+        TypeAggregates aggregates = new TypeAggregates();
+        aggregates.addAll(List.of(cosmic, water));
+        assertEquals(List.of("Cosmic", "Water"),
+                List.copyOf(aggregates.summarize(TypeGrouping.PRIMARY_TYPE, PokemonStat.ATTACK).keySet()));
+
+        aggregates.removeAll(List.of(cosmic));
+
+        assertEquals(List.of("Water"),
+                List.copyOf(aggregates.summarize(TypeGrouping.PRIMARY_TYPE, PokemonStat.ATTACK).keySet()));
+        assertNull(aggregates.summarize(TypeGrouping.SECONDARY_TYPE, "Flying", PokemonStat.ATTACK));
+        assertEquals(0.4, aggregates.summarize(TypeGrouping.TYPE_PAIR, "Water", PokemonStat.ATTACK).getMean());
+    }
+
+    @Test
+    void earlierSummariesDoNotChange() {
+        TypeAggregates aggregates = new TypeAggregates();
+        aggregates.addAll(List.of(card(1, 0.2), card(2, 0.4)));
+        StatSummary before = aggregates.summarize(TypeGrouping.PRIMARY_TYPE, "Normal", PokemonStat.ATTACK);
+
+        aggregates.addAll(List.of(card(3, 0.9)));
+        aggregates.removeAll(List.of(card(1, 0.2)));
+        StatSummary after = aggregates.summarize(TypeGrouping.PRIMARY_TYPE, "Normal", PokemonStat.ATTACK);
+
+        assertEquals(2, before.getCount());
+        assertEquals(0.2, before.getMin());
+        assertEquals(0.4, before.getMax());
+        assertEquals(2, after.getCount());
+        assertEquals(0.4, after.getMin());
+        assertEquals(0.9, after.getMax());
+    }
+}
@@ -0,0 +1,122 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ph.edu.dlsu.lbycpei.pokemoncardapp.model.TestCards.card;
+
+class TypeIndexTest {
+
+    private static final String[] TYPES = {"Water", "Fire", "Flying", "Grass", "Poison", "Cosmic"};
+
+    private static Pokemon typed(int id, String type) {
+        return card(id, 1.0, 1.0, 0.5, 0.5, 0.5, type);
+    }
+
+    private static List<Pokemon> randomCards(Random random, int from, int count) {
+        List<Pokemon> cards = new ArrayList<>();
+        for (int id = from; id < from + count; id++) {
+            String first = TYPES[random.nextInt(TYPES.length)];
+            String type = random.nextBoolean() ? first : first + "-" + TYPES[random.nextInt(TYPES.length)];
+            cards.add(typed(id, type));
+        }
+        return cards;
+    }
+
+    private static boolean has(Pokemon card, String type) {
+        for (String name : card.getType().split("-")) {
+            if (name.equalsIgnoreCase(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BitSet bruteForce(List<Pokemon> list, Collection<String> allOf, Collection<String> anyOf,
+                                     Collection<String> noneOf) {
+        BitSet result = new BitSet();
+        for (int i = 0; i < list.size(); i++) {
+            Pokemon card = list.get(i);
+            boolean matches = allOf.stream().allMatch(t -> has(card, t))
+                    && (anyOf.isEmpty() || anyOf.stream().anyMatch(t -> has(card, t)))
+                    && noneOf.stream().noneMatch(t -> has(card, t));
+            result.set(i, matches);
+        }
+        return result;
+    }
+
+    private static void assertAllFilters(TypeIndex index, List<Pokemon> list) {
+        for (String a : TYPES) {
+            for (String b : TYPES) {
+                List<String> one = List.of(a.toUpperCase(Locale.ROOT));
+                List<String> two = List.of(a, b.toLowerCase(Locale.ROOT));
+                assertEquals(bruteForce(list, two, List.of(), List.of()),
+                        index.query(list, two, List.of(), List.of()));
+                assertEquals(bruteForce(list, List.of(), two, List.of()),
+                        index.query(list, List.of(), two, List.of()));
+                assertEquals(bruteForce(list, one, List.of(), List.of(b)),
+                        index.query(list, one, List.of(), List.of(b)));
+            }
+        }
+    }
+
+    @Test
+    void matchesBruteForceAcrossAppendsAndRemovals() {
+        Random random = new Random(11);
+        List<Pokemon> list = new ArrayList<>(randomCards(random, 0, 500));
+        TypeIndex index = new TypeIndex();
+        index.append(list);
+        assertAllFilters(index, list);
+
+        List<Pokemon> added = randomCards(random, 500, 200);
+        list.addAll(added);
+        index.append(added);
+        assertAllFilters(index, list);
+
+        list.removeIf(p -> p.getInstanceId() % 7 == 0);
+        index.invalidate();
+        assertAllFilters(index, list);
+    }
+
+    @Test
+    void emptyFilterMatchesEverything() {
+        List<Pokemon> list = List.of(typed(1, "Water"), typed(2, "Fire-Flying"));
+        TypeIndex index = new TypeIndex();
+        index.append(list);
+
+        BitSet all = new BitSet();
+        all.set(0, 2);
+        assertEquals(all, index.query(list, List.of(), List.of(), List.of()));
+    }
+
+    @Test
+    void unknownNamesOnlyMatchCardsWithThatName() {
+        List<Pokemon> list = List.of(typed(1, "Cosmic"), typed(2, "Fire-Astral"), typed(3, "Water"));
+        TypeIndex index = new TypeIndex();
+        index.append(list);
+
+        Set<String> none = Set.of();
+        assertEquals(BitSet.valueOf(new long[] {0b001}), index.query(list, Set.of(" cosmic "), none, none));
+        assertEquals(BitSet.valueOf(new long[] {0b010}), index.query(list, Set.of("ASTRAL", "fire"), none, none));
+        assertEquals(new BitSet(), index.query(list, Set.of("Unknown"), none, none));
+        assertEquals(BitSet.valueOf(new long[] {0b101}), index.query(list, none, none, Set.of("Astral")));
+    }
+
+    @Test
+    void rebuildsWhenTheListChangedUnderIt() {
+        List<Pokemon> list = new ArrayList<>(List.of(typed(1, "Water"), typed(2, "Fire")));
+        TypeIndex index = new TypeIndex();
+        index.append(list);
+
+        list.add(typed(3, "Water-Flying")); // Not appended to the index
+        assertEquals(BitSet.valueOf(new long[] {0b101}), index.query(list, Set.of("Water"), Set.of(), Set.of()));
+    }
+}
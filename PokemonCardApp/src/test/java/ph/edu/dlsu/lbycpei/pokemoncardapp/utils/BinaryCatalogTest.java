@@ -0,0 +1,108 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BinaryCatalogTest {
+
+    private static final BinaryCatalog.SourceStamp STAMP = new BinaryCatalog.SourceStamp(1_700_000_000_000L, 4096);
+
+    @TempDir
+    Path directory;
+
+    private static List<Pokemon> catalog() {
+        return List.of(
+                new Pokemon(0, "Pikachu", 6.0, 0.4, 0.55, 0.40, 0.35, "Electric"),
+                new Pokemon(0, "Flabébé", 0.1, 0.1, 0.38, 0.39, 0.44, "Fairy"),
+                new Pokemon(0, "Raichu", 30.0, 0.8, 0.90, 0.55, 0.60, "Electric"),
+                new Pokemon(0, "Charizard", 90.5, 1.7, Double.NaN, -0.0, 1e-300, "Fire-Flying"));
+    }
+
+    private static List<String> rows(List<Pokemon> pokemon) {
+        return pokemon.stream().map(PokemonCSVParser::format).toList();
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        Path snapshot = directory.resolve("catalog.bin");
+        BinaryCatalog.write(snapshot, catalog(), STAMP);
+
+        List<Pokemon> loaded = BinaryCatalog.loadIfFresh(snapshot, STAMP);
+
+        assertEquals(rows(catalog()), rows(loaded));
+        // Repeated strings come from one table entry
+        assertSame(loaded.get(0).getType(), loaded.get(2).getType());
+        // Every card gets its own instance ID, in file order
+        assertNotEquals(0, loaded.get(0).getInstanceId());
+        for (int i = 1; i < loaded.size(); i++) {
+            assertEquals(loaded.get(i - 1).getInstanceId() + 1, loaded.get(i).getInstanceId());
+        }
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        Path snapshot = directory.resolve("catalog.bin");
+        BinaryCatalog.write(snapshot, List.of(), STAMP);
+
+        assertEquals(List.of(), BinaryCatalog.loadIfFresh(snapshot, STAMP));
+    }
+
+    @Test
+    void ignoresSnapshotOfAnotherSource() throws IOException {
+        Path snapshot = directory.resolve("catalog.bin");
+        BinaryCatalog.write(snapshot, catalog(), STAMP);
+
+        long modified = STAMP.lastModified();
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, new BinaryCatalog.SourceStamp(modified + 1, 4096)));
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, new BinaryCatalog.SourceStamp(modified, 4097)));
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, null));
+        assertNull(BinaryCatalog.loadIfFresh(directory.resolve("missing.bin"), STAMP));
+    }
+
+    @Test
+    void ignoresDamagedSnapshot() throws IOException {
+        Path snapshot = directory.resolve("catalog.bin");
+        BinaryCatalog.write(snapshot, catalog(), STAMP);
+        byte[] bytes = Files.readAllBytes(snapshot);
+
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 3));
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, STAMP));
+
+        Files.write(snapshot, Arrays.copyOf(bytes, 20));
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, STAMP));
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] ^= 1;
+        Files.write(snapshot, badMagic);
+        assertNull(BinaryCatalog.loadIfFresh(snapshot, STAMP));
+    }
+
+    @Test
+    void replacesSnapshotWithoutLeavingTempFiles() throws IOException {
+        Path snapshot = directory.resolve("catalog.bin");
+        BinaryCatalog.write(snapshot, catalog(), STAMP);
+        List<Pokemon> smaller = new ArrayList<>(catalog().subList(0, 2));
+        BinaryCatalog.write(snapshot, smaller, STAMP);
+
+        assertEquals(rows(smaller), rows(BinaryCatalog.loadIfFresh(snapshot, STAMP)));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertArrayEquals(new Path[] {snapshot}, files.toArray(Path[]::new));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LruCacheTest {
+
+    private static LruCache<String, byte[]> cache(long budget, boolean soft) {
+        return new LruCache<>(budget, soft, value -> value.length);
+    }
+
+    // The soft reference holding a key's value
+    private static Reference<?> entry(LruCache<String, byte[]> cache, String key) throws ReflectiveOperationException {
+        Field entries = LruCache.class.getDeclaredField("entries");
+        entries.setAccessible(true);
+        return (Reference<?>) ((Map<?, ?>) entries.get(cache)).get(key);
+    }
+
+    @Test
+    void evictsLeastRecentlyReadFirst() {
+        LruCache<String, byte[]> cache = cache(10, false);
+        byte[] a = new byte[4];
+        cache.put("a", a);
+        cache.put("b", new byte[4]);
+        assertSame(a, cache.get("a"));
+
+        cache.put("c", new byte[4]);
+
+        assertNull(cache.get("b"));
+        assertSame(a, cache.get("a"));
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getUsedBytes());
+        assertEquals(1, cache.getEvictions());
+
+        // Several entries go to make room for a heavy one
+        cache.put("d", new byte[9]);
+        assertEquals(9, cache.getUsedBytes());
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getEvictions());
+    }
+
+    @Test
+    void staysWithinTheBudget() {
+        LruCache<String, byte[]> cache = cache(10, false);
+        cache.put("a", new byte[4]);
+        cache.put("a", new byte[6]); // Replacing frees the old value's bytes
+        assertEquals(6, cache.getUsedBytes());
+
+        cache.put("a", new byte[11]); // Heavier than the budget: dropped, not stored
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getUsedBytes());
+        assertEquals(0, cache.getEvictions());
+
+        cache.put("b", new byte[10]);
+        assertEquals(10, cache.getUsedBytes());
+        assertThrows(IllegalArgumentException.class, () -> cache(-1, false));
+    }
+
+    @Test
+    void loadsOnMissAndCountsHits() {
+        LruCache<String, byte[]> cache = cache(10, false);
+        int[] loads = {0};
+
+        byte[] first = cache.get("a", key -> {
+            loads[0]++;
+            return new byte[2];
+        });
+        assertSame(first, cache.get("a", key -> new byte[3]));
+        assertNull(cache.get("gone", key -> null)); // Not cached, so it misses again
+        assertNull(cache.get("gone"));
+
+        assertEquals(1, loads[0]);
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void clearedEntriesAreDrainedWithTheirBytes() throws ReflectiveOperationException {
+        LruCache<String, byte[]> cache = cache(10, true);
+        byte[] b = new byte[4];
+        cache.put("a", new byte[4]);
+        cache.put("b", b);
+
+        // What the collector does under memory pressure: clear the value and queue its entry
+        entry(cache, "a").enqueue();
+
+        // The cleared bytes leave room, so nothing live is evicted
+        cache.put("c", new byte[6]);
+        assertSame(b, cache.get("b"));
+        assertEquals(0, cache.getEvictions());
+        assertEquals(2, cache.size());
+        assertEquals(10, cache.getUsedBytes());
+
+        // Cleared but not queued yet: the lookup misses and drops the entry
+        entry(cache, "c").clear();
+        assertNull(cache.get("c"));
+        assertEquals(4, cache.getUsedBytes());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void queuedEntryDoesNotDropItsReplacement() throws ReflectiveOperationException {
+        LruCache<String, byte[]> cache = cache(10, true);
+        cache.put("a", new byte[4]);
+        Reference<?> old = entry(cache, "a");
+        byte[] replacement = new byte[3];
+        cache.put("a", replacement);
+
+        old.enqueue();
+
+        assertSame(replacement, cache.get("a"));
+        assertEquals(3, cache.getUsedBytes());
+    }
+
+    @Test
+    void strongValuesAreNotCleared() throws ReflectiveOperationException {
+        LruCache<String, byte[]> cache = cache(10, false);
+        byte[] a = new byte[4];
+        cache.put("a", a);
+
+        entry(cache, "a").clear();
+
+        assertSame(a, cache.get("a"));
+    }
+}
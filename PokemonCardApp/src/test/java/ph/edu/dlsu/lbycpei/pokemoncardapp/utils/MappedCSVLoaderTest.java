@@ -0,0 +1,163 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CSVParseException;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.PokemonCSVParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedCSVLoaderTest {
+
+    // With two or more workers a file under 8 MB is probed for a newline every CHUNK bytes
+    private static final int CHUNK = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    private final ByteArrayOutputStream file = new ByteArrayOutputStream();
+    private final Random random = new Random(42);
+    private int chunkStart;
+
+    private void write(String text) {
+        file.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void row(String name) {
+        write(name + "," + (1 + random.nextInt(900)) / 10.0 + "kg," + (1 + random.nextInt(90)) / 10.0 + "m,"
+                + random.nextInt(100) / 100.0 + "," + random.nextInt(100) / 100.0 + ","
+                + random.nextInt(100) / 100.0 + (random.nextBoolean() ? ",Water\n" : ",Fire-Flying\r\n"));
+    }
+
+    // Rows of assorted lengths, with the odd blank or broken line, up to about limit bytes
+    private void fillTo(int limit) {
+        while (file.size() < limit - 200) {
+            int kind = random.nextInt(50);
+            if (kind == 0) {
+                write("\n");
+            } else if (kind == 1) {
+                write("Broken" + file.size() + ",12kg,0.5m,0.1,0.2\n");
+            } else {
+                row("Card" + file.size() + "x".repeat(random.nextInt(40)));
+            }
+        }
+    }
+
+    // A valid row whose newline is the last byte before offset
+    private void rowEndingAt(int offset) {
+        String tail = ",1.0kg,1.0m,0.5,0.5,0.5,Grass\n";
+        int padding = offset - file.size() - tail.length() - "Pad".length();
+        write("Pad" + "y".repeat(padding) + tail);
+        assertEquals(offset, file.size());
+    }
+
+    // Where the loader starts looking for the end of the current chunk
+    private int probe() {
+        return chunkStart + CHUNK;
+    }
+
+    // The next chunk starts after the first newline at or after the probe
+    private void nextChunk() {
+        byte[] bytes = file.toByteArray();
+        int i = probe();
+        while (bytes[i] != '\n') {
+            i++;
+        }
+        chunkStart = i + 1;
+    }
+
+    /**
+     * Parse the file one line at a time, the way CSVFileLoader reads small files
+     */
+    private static MappedCSVLoader.Result expected(byte[] bytes) {
+        String[] lines = new String(bytes, StandardCharsets.UTF_8).split("\n", -1);
+        int count = lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+        PokemonCSVParser parser = new PokemonCSVParser(false);
+        List<Pokemon> pokemon = new ArrayList<>();
+        List<String> details = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int line = i + 1;
+            if (lines[i].isBlank()) {
+                details.add("Line " + line + ": Empty line");
+                continue;
+            }
+            try {
+                pokemon.add(parser.parse(lines[i], line));
+            } catch (CSVParseException e) {
+                details.add("Line " + line + ", column " + e.getColumn() + ": " + e.getReason());
+            }
+        }
+        return new MappedCSVLoader.Result(pokemon, count, details);
+    }
+
+    private void assertLoadsLikeOneChunk() throws IOException {
+        byte[] bytes = file.toByteArray();
+        Path path = directory.resolve("catalog.csv");
+        Files.write(path, bytes);
+
+        MappedCSVLoader.Result want = expected(bytes);
+        for (int workers : new int[] {2, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                MappedCSVLoader.Result got = MappedCSVLoader.load(path, pool, false);
+                assertEquals(want.totalLines(), got.totalLines());
+                assertEquals(want.skippedLineDetails(), got.skippedLineDetails());
+                assertEquals(want.pokemon().stream().map(PokemonCSVParser::format).toList(),
+                        got.pokemon().stream().map(PokemonCSVParser::format).toList());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void rowsAcrossChunkBoundariesAreParsedOnce() throws IOException {
+        // A newline right at the probe
+        fillTo(probe() - 300);
+        rowEndingAt(probe() + 1);
+        nextChunk();
+        // A probe inside a multi-byte character
+        fillTo(probe() - 300);
+        rowEndingAt(probe() - 5);
+        write("Flabébé,0.3kg,0.1m,0.2,0.3,0.4,Fairy\n");
+        nextChunk();
+        // A line longer than the newline probe reads at once
+        fillTo(probe() - 300);
+        rowEndingAt(probe() - 100);
+        row("Long" + "z".repeat(20_000));
+        nextChunk();
+        // A blank line at the probe, then a broken line opening the next chunk
+        fillTo(probe() - 300);
+        rowEndingAt(probe());
+        write("\n");
+        nextChunk();
+        assertEquals(chunkStart, file.size());
+        write("Torn,1.0kg\n");
+        // The last row has no newline
+        fillTo(probe() + 500);
+        write("Last,1.0kg,1.0m,0.5,0.5,0.5,Ice");
+
+        assertLoadsLikeOneChunk();
+    }
+
+    @Test
+    void smallFileIsOneChunk() throws IOException {
+        row("Pikachu");
+        write("\n");
+        write("Broken,1.0kg\n");
+        row("Mew");
+
+        assertLoadsLikeOneChunk();
+    }
+}
@@ -0,0 +1,193 @@
+package ph.edu.dlsu.lbycpei.pokemoncardapp.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.CatalogDelta;
+import ph.edu.dlsu.lbycpei.pokemoncardapp.model.Pokemon;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutationLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static Pokemon card(String name, double attack) {
+        return new Pokemon(0, name, 9.0, 0.5, attack, 0.35, 0.56, "Water");
+    }
+
+    private static List<String> names(List<Pokemon> cards) {
+        return cards.stream().map(Pokemon::getName).toList();
+    }
+
+    private static FileChannel append(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Opens channels normally, except that the open numbered failing (from 1) fails
+     * the way a lost disk would: the first open hands out a closed channel, later
+     * ones throw
+     */
+    private static MutationLog.ChannelOpener failingOn(int failing) {
+        AtomicInteger opens = new AtomicInteger();
+        return path -> {
+            int open = opens.incrementAndGet();
+            if (open != failing) {
+                return append(path);
+            }
+            if (open > 1) {
+                throw new IOException("Disk went away");
+            }
+            FileChannel closed = append(path);
+            closed.close();
+            return closed;
+        };
+    }
+
+    @Test
+    void replaysTheNetEffectOfEarlierMutations() throws IOException {
+        Path file = directory.resolve("catalog.log");
+        try (MutationLog log = MutationLog.open(file)) {
+            log.logInsert(card("Squirtle", 0.55));
+            log.logInsert(card("Psyduck", 0.40));
+            log.logUpdate(card("Squirtle", 0.60)); // Folded into the insert
+            log.logRemove("psyduck"); // Cancels the insert, ignoring case
+            log.logUpdate(card("Pikachu", 0.70)); // A card from the base catalog
+            log.logRemove("Bulbasaur");
+        }
+
+        try (MutationLog log = MutationLog.open(file)) {
+            CatalogDelta delta = log.getRecovered();
+            assertEquals(List.of("Squirtle"), names(delta.getInserted()));
+            assertEquals(0.60, delta.getInserted().get(0).getAttack());
+            // The update is also kept on its own, for base catalog cards sharing the name
+            assertEquals(List.of("Pikachu", "Squirtle"), names(delta.getUpdated()));
+            assertEquals(List.of("Bulbasaur", "psyduck"), delta.getRemoved());
+        }
+    }
+
+    @Test
+    void updateAfterRemovalIsNotReplayedAsUpdate() throws IOException {
+        Path file = directory.resolve("catalog.log");
+        try (MutationLog log = MutationLog.open(file)) {
+            log.logRemove("Pikachu");
+            log.logUpdate(card("Pikachu", 0.70));
+        }
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of(), log.getRecovered().getUpdated());
+            assertEquals(List.of("Pikachu"), log.getRecovered().getRemoved());
+        }
+    }
+
+    @Test
+    void dropsATornLastLineAndCompactsOnOpen() throws IOException {
+        Path file = directory.resolve("catalog.log");
+        Files.writeString(file, "+\tSquirtle,9.0kg,0.5m,0.55,0.35,0.56,Water\n"
+                + "-\tSquirtle\n"
+                + "+\tPsyduck,19.6kg,0.8m,0.4,0.35,0.5,Water\n"
+                + "+\tPika", StandardCharsets.UTF_8);
+
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of("Psyduck"), names(log.getRecovered().getInserted()));
+            assertEquals(List.of("Squirtle"), log.getRecovered().getRemoved());
+        }
+        // Rewritten as the net effect: the cancelled insert and the torn line are gone
+        assertEquals(List.of("-\tSquirtle", "+\tPsyduck,19.6kg,0.8m,0.4,0.35,0.5,Water"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void skipsInvalidLines() throws IOException {
+        Path file = directory.resolve("catalog.log");
+        Files.writeString(file, "garbage\n"
+                + "+\tBroken,notaweight,0.5m,0.55,0.35,0.56,Water\n"
+                + "?\tSquirtle\n"
+                + "+\tPsyduck,19.6kg,0.8m,0.4,0.35,0.5,Water\n", StandardCharsets.UTF_8);
+
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of("Psyduck"), names(log.getRecovered().getInserted()));
+            assertTrue(log.getRecovered().getRemoved().isEmpty());
+        }
+    }
+
+    @Test
+    void compactsWhileRunningOnceMostRecordsAreDead() throws IOException {
+        Path file = directory.resolve("catalog.log");
+        try (MutationLog log = MutationLog.open(file)) {
+            for (int i = 0; i < 5_000; i++) { // 10,000 records: compacted once the last is written
+                log.logInsert(card("Squirtle", 0.55));
+                log.logRemove("Squirtle");
+            }
+            log.flush().join();
+            assertEquals(List.of("-\tSquirtle"), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+            log.logInsert(card("Psyduck", 0.40)); // Appends to the compacted file
+        }
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of("Psyduck"), names(log.getRecovered().getInserted()));
+            assertEquals(List.of("Squirtle"), log.getRecovered().getRemoved());
+        }
+        assertEquals(2, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    void failedWriteFailsItsFlushAndIsRewrittenByTheNext() throws Exception {
+        Path file = directory.resolve("catalog.log");
+        try (MutationLog log = MutationLog.open(file, failingOn(1))) {
+            log.logInsert(card("Squirtle", 0.55));
+            CompletableFuture<Void> failed = log.flush();
+            ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(ClosedChannelException.class, e.getCause());
+
+            log.logInsert(card("Psyduck", 0.40));
+            log.flush().get(10, TimeUnit.SECONDS);
+            assertEquals(List.of("+\tSquirtle,9.0kg,0.5m,0.55,0.35,0.56,Water",
+                            "+\tPsyduck,9.0kg,0.5m,0.4,0.35,0.56,Water"),
+                    Files.readAllLines(file, StandardCharsets.UTF_8));
+
+            log.logRemove("Squirtle"); // Appends again
+        }
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of("Psyduck"), names(log.getRecovered().getInserted()));
+            assertEquals(List.of("Squirtle"), log.getRecovered().getRemoved());
+        }
+    }
+
+    @Test
+    void keepsLoggingWhenReopeningAfterCompactionFails() throws Exception {
+        Path file = directory.resolve("catalog.log");
+        try (MutationLog log = MutationLog.open(file, failingOn(2))) {
+            for (int i = 0; i < 5_000; i++) {
+                log.logInsert(card("Squirtle", 0.55));
+                log.logRemove("Squirtle");
+            }
+            log.flush().get(10, TimeUnit.SECONDS); // Compacted, but the reopen failed
+            assertEquals(List.of("-\tSquirtle"), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+            log.logInsert(card("Psyduck", 0.40));
+            log.flush().get(10, TimeUnit.SECONDS);
+            log.logInsert(card("Golduck", 0.70));
+        }
+        try (MutationLog log = MutationLog.open(file)) {
+            assertEquals(List.of("Psyduck", "Golduck"), names(log.getRecovered().getInserted()));
+            assertEquals(List.of("Squirtle"), log.getRecovered().getRemoved());
+        }
+    }
+}